@@ -0,0 +1,89 @@
+package collectionsDSA.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Runs the suites once per thread count and writes one JMH JSON file per
+ * thread count, e.g. results/jmh-threads-4.json. File names are stable, so
+ * two result directories from different commits can be diffed directly.
+ *
+ * Usage:
+ *   java -jar target/benchmarks.jar [--threads 1,2,4,8] [--out results]
+ *                                   [--size 1000,1000000] [--distribution ZIPFIAN]
+ *                                   [--prof gc]
+ *                                   [include-regex ...]
+ *
+ * Plain JMH flags still work through the JMH main class:
+ *   java -cp target/benchmarks.jar org.openjdk.jmh.Main HashSet -t 4 -rf json
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        List<Integer> threadCounts = List.of(1, 2, 4, 8);
+        String outDir = "results";
+        String[] sizes = null;
+        String[] distributions = null;
+        List<String> profilers = new ArrayList<>();
+        List<String> includes = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads":
+                    threadCounts = new ArrayList<>();
+                    for (String t : args[++i].split(",")) {
+                        threadCounts.add(Integer.parseInt(t.trim()));
+                    }
+                    break;
+                case "--out":
+                    outDir = args[++i];
+                    break;
+                case "--size":
+                    sizes = args[++i].split(",");
+                    break;
+                case "--distribution":
+                    distributions = args[++i].split(",");
+                    break;
+                case "--prof":
+                    profilers.add(args[++i]);
+                    break;
+                default:
+                    includes.add(args[i]);
+            }
+        }
+        if (includes.isEmpty()) {
+            includes.add(BenchmarkRunner.class.getPackageName() + "\\..*");
+        }
+
+        File dir = new File(outDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalStateException("Cannot create output directory " + dir);
+        }
+
+        for (int threads : threadCounts) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(dir, "jmh-threads-" + threads + ".json").getPath());
+            for (String include : includes) {
+                options.include(include);
+            }
+            if (sizes != null) {
+                options.param("size", sizes);
+            }
+            if (distributions != null) {
+                options.param("distribution", distributions);
+            }
+            for (String profiler : profilers) {
+                options.addProfiler(profiler);
+            }
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package collectionsDSA.benchmarks;
+
+import java.util.*;
+
+/**
+ * Key shapes the suites sweep over. Every generator is seeded, so two runs of
+ * the same benchmark see the same keys and their JSON results can be diffed.
+ */
+public enum KeyDistribution {
+    // 0, 1, 2, ... n-1 - best case for HashMap's spreading, no duplicates
+    SEQUENTIAL {
+        @Override
+        public int[] keys(int n, long seed) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = i;
+            }
+            return keys;
+        }
+    },
+    // n-1, n-2, ... 0 - worst case sift-up for a min-heap
+    DESCENDING {
+        @Override
+        public int[] keys(int n, long seed) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = n - 1 - i;
+            }
+            return keys;
+        }
+    },
+    // Uniformly random over the full int range - few duplicates, no locality
+    UNIFORM {
+        @Override
+        public int[] keys(int n, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt();
+            }
+            return keys;
+        }
+    },
+    // Zipfian over [0, n) - a small hot set repeats, like real cache/counter keys
+    ZIPFIAN {
+        @Override
+        public int[] keys(int n, long seed) {
+            ZipfianGenerator zipf = new ZipfianGenerator(n, ZipfianGenerator.DEFAULT_SKEW, seed);
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = zipf.next();
+            }
+            return keys;
+        }
+    };
+
+    public static final long DEFAULT_SEED = 0x5EED_CAFEL;
+
+    public abstract int[] keys(int n, long seed);
+
+    public int[] keys(int n) {
+        return keys(n, DEFAULT_SEED);
+    }
+
+    // Boxes once during setup so the timed loops don't measure Integer.valueOf
+    public static Integer[] boxed(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+}
@@ -0,0 +1,53 @@
+package collectionsDSA.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian sampler over [0, items) using the closed-form method from
+ * Gray et al., "Quickly Generating Billion-Record Synthetic Databases".
+ * Setup is O(items) to compute zeta(items); each sample is O(1).
+ */
+public final class ZipfianGenerator {
+    public static final double DEFAULT_SKEW = 0.99;
+
+    private final int items;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+    private final SplittableRandom random;
+
+    public ZipfianGenerator(int items, double theta, long seed) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("items must be positive: " + items);
+        }
+        this.items = items;
+        this.theta = theta;
+        this.random = new SplittableRandom(seed);
+        this.zetaN = zeta(items, theta);
+        double zeta2 = zeta(2, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    public int next() {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        int value = (int) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(value, items - 1);
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
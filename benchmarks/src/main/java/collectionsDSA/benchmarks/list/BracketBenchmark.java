@@ -0,0 +1,92 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.BracketValidator;
+import collectionsDSA.list.StackDSA;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StackDSA.isBalanced (toCharArray + Stack&lt;Character&gt;) vs BracketValidator
+ * over String, Reader and direct ByteBuffer input. The input is seeded,
+ * JSON-like text: nested objects/arrays up to 32 deep, with ~1 bracket per 8
+ * characters. Run with {@code -prof gc}: the validator's
+ * gc.alloc.rate.norm should be ~0 regardless of size (the Reader case
+ * allocates its StringReader and an 8 KB read buffer per call).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BracketBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    String text;
+    ByteBuffer bytes;
+    BracketValidator validator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = jsonLike(size, KeyDistribution.DEFAULT_SEED);
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        bytes = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+        validator = new BracketValidator();
+        if (validator.validate(text) != BracketValidator.BALANCED || !StackDSA.isBalanced(text)) {
+            throw new IllegalStateException("generator produced unbalanced input");
+        }
+    }
+
+    @Benchmark
+    public boolean stackIsBalanced() {
+        return StackDSA.isBalanced(text);
+    }
+
+    @Benchmark
+    public long validatorString() {
+        return validator.validate(text);
+    }
+
+    @Benchmark
+    public long validatorReader() throws IOException {
+        return new BracketValidator().validate(new StringReader(text));
+    }
+
+    @Benchmark
+    public long validatorDirectByteBuffer() {
+        return validator.validate(bytes);
+    }
+
+    // Balanced text of exactly n characters
+    static String jsonLike(int n, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(n);
+        char[] open = new char[32];
+        int depth = 0;
+        while (sb.length() + depth < n) {
+            int roll = random.nextInt(16);
+            if (roll == 0 && depth < open.length && sb.length() + depth + 2 <= n) {
+                char c = random.nextBoolean() ? '{' : '[';
+                open[depth++] = c;
+                sb.append(c);
+            } else if (roll == 1 && depth > 0) {
+                sb.append(open[--depth] == '{' ? '}' : ']');
+            } else {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        while (depth > 0) {
+            sb.append(open[--depth] == '{' ? '}' : ']');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.ArrayListDSA;
+import collectionsDSA.list.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed vs primitive duplicate handling in ArrayListDSA. Throughput comes from
+ * the scores; run with {@code -prof gc} (or {@code --prof gc} via the runner)
+ * to see gc.alloc.rate.norm, the bytes allocated per call. Retained footprint
+ * is reported separately by {@link DuplicatesFootprint}.
+ *
+ * UNIFORM input is almost duplicate-free (the seen-set grows to n), ZIPFIAN
+ * input is mostly duplicates (the seen-set stays small, the output list grows).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DuplicatesBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    ArrayList<Integer> boxed;
+    IntArrayList primitive;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] keys = distribution.keys(size);
+        primitive = IntArrayList.of(keys);
+        boxed = new ArrayList<>(Arrays.asList(KeyDistribution.boxed(keys)));
+    }
+
+    @Benchmark
+    public List<Integer> boxedFindDuplicates() {
+        return ArrayListDSA.findDuplicates(boxed);
+    }
+
+    @Benchmark
+    public IntArrayList primitiveFindDuplicates() {
+        return ArrayListDSA.findDuplicates(primitive);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> boxedRemoveDuplicates() {
+        return ArrayListDSA.removeDuplicates(boxed);
+    }
+
+    @Benchmark
+    public IntArrayList primitiveRemoveDuplicates() {
+        return ArrayListDSA.removeDuplicates(primitive);
+    }
+}
@@ -0,0 +1,51 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.IntArrayList;
+import collectionsDSA.list.IntHashSet;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.*;
+
+/**
+ * Retained heap size of the input list and the seen-set used by
+ * findDuplicates/removeDuplicates, boxed vs primitive, measured with JOL by
+ * walking the object graph. Integer-cache hits (-128..127) are shared
+ * objects and are counted once, exactly as the heap would hold them.
+ *
+ *   java -cp target/benchmarks.jar collectionsDSA.benchmarks.list.DuplicatesFootprint [size ...]
+ */
+public class DuplicatesFootprint {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[] {1_000, 100_000, 1_000_000, 10_000_000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        System.out.printf("%-12s %-28s %16s %12s%n", "size", "structure", "bytes", "bytes/elem");
+        for (int size : sizes) {
+            int[] keys = KeyDistribution.UNIFORM.keys(size);
+
+            ArrayList<Integer> boxedList = new ArrayList<>(size);
+            HashSet<Integer> boxedSet = new HashSet<>();
+            for (int key : keys) {
+                boxedList.add(key);
+                boxedSet.add(key);
+            }
+            IntArrayList primitiveList = IntArrayList.of(keys);
+            IntHashSet primitiveSet = new IntHashSet();
+            for (int key : keys) {
+                primitiveSet.add(key);
+            }
+
+            report(size, "ArrayList<Integer>", GraphLayout.parseInstance(boxedList).totalSize());
+            report(size, "IntArrayList", GraphLayout.parseInstance(primitiveList).totalSize());
+            report(size, "HashSet<Integer>", GraphLayout.parseInstance(boxedSet).totalSize());
+            report(size, "IntHashSet", GraphLayout.parseInstance(primitiveSet).totalSize());
+        }
+    }
+
+    private static void report(int size, String structure, long bytes) {
+        System.out.printf("%-12d %-28s %16d %12.1f%n", size, structure, bytes, bytes / (double) size);
+    }
+}
@@ -0,0 +1,97 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.CompiledExpression;
+import collectionsDSA.list.ExpressionCompiler;
+import collectionsDSA.list.StackDSA;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expression evaluation cost per call. The original StackDSA.evaluatePostfix
+ * (Stack&lt;Integer&gt;, re-scans the string every time, single-digit postfix
+ * only) is the baseline; evaluatePostfixLong compiles on every call.
+ *
+ * The formula benchmarks evaluate one compiled formula over a batch of
+ * 1024 variable rows, reusing one stack array, which is the "same formula,
+ * millions of bindings" case. Scores are per row. With {@code -prof gc},
+ * gc.alloc.rate.norm should be 0 for the compiled variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+    static final String SINGLE_DIGIT = "23+4*5-92/+";
+    static final String FORMULA = "(price * qty - discount) * (1 + tax / 100) % 1000003";
+    static final int ROWS = 1024;
+
+    CompiledExpression singleDigit;
+    long[] noValues = new long[0];
+    long[] longStack;
+
+    CompiledExpression formula;
+    long[][] longRows;
+    double[][] doubleRows;
+    double[] doubleStack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        singleDigit = compiler.compilePostfix(SINGLE_DIGIT);
+        formula = compiler.compile(FORMULA, "price", "qty", "discount", "tax");
+        longStack = new long[Math.max(singleDigit.stackSize(), formula.stackSize())];
+        doubleStack = new double[formula.stackSize()];
+
+        SplittableRandom random = new SplittableRandom(KeyDistribution.DEFAULT_SEED);
+        longRows = new long[ROWS][];
+        doubleRows = new double[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            long[] row = {random.nextInt(1, 10_000), random.nextInt(1, 100), random.nextInt(0, 500), random.nextInt(0, 30)};
+            longRows[i] = row;
+            doubleRows[i] = new double[] {row[0], row[1], row[2], row[3]};
+        }
+        if (StackDSA.evaluatePostfix(SINGLE_DIGIT) != singleDigit.evaluate(noValues, longStack)) {
+            throw new IllegalStateException("compiled result differs from the original evaluator");
+        }
+    }
+
+    @Benchmark
+    public int legacyPostfix() {
+        return StackDSA.evaluatePostfix(SINGLE_DIGIT);
+    }
+
+    @Benchmark
+    public long compileAndEvaluatePostfix() {
+        return StackDSA.evaluatePostfixLong(SINGLE_DIGIT);
+    }
+
+    @Benchmark
+    public long compiledPostfix() {
+        return singleDigit.evaluate(noValues, longStack);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long compiledFormulaLong() {
+        long sum = 0;
+        for (long[] row : longRows) {
+            sum += formula.evaluate(row, longStack);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double compiledFormulaDouble() {
+        double sum = 0;
+        for (double[] row : doubleRows) {
+            sum += formula.evaluate(row, doubleStack);
+        }
+        return sum;
+    }
+}
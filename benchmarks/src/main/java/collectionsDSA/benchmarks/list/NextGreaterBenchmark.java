@@ -0,0 +1,61 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.StackDSA;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StackDSA.findNextGreater before (Stack&lt;Integer&gt;) and after (IntStack).
+ * DESCENDING input is the worst case: nothing is ever popped, so the stack
+ * grows to n. That means n Integer boxes before, and one int[] of n after.
+ * Run with {@code -prof gc} to compare gc.alloc.rate.norm. The result array
+ * (4n bytes) is the only allocation that should scale with n after.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class NextGreaterBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    int size;
+
+    @Param({"UNIFORM", "DESCENDING"})
+    KeyDistribution distribution;
+
+    int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = distribution.keys(size);
+    }
+
+    @Benchmark
+    public int[] boxedStack() {
+        return boxedFindNextGreater(values);
+    }
+
+    @Benchmark
+    public int[] intStack() {
+        return StackDSA.findNextGreater(values);
+    }
+
+    // StackDSA.findNextGreater before IntStack
+    static int[] boxedFindNextGreater(int[] arr) {
+        int[] result = new int[arr.length];
+        Stack<Integer> stack = new Stack<>();
+        for (int i = arr.length - 1; i >= 0; i--) {
+            while (!stack.isEmpty() && stack.peek() <= arr[i]) {
+                stack.pop();
+            }
+            result[i] = stack.isEmpty() ? -1 : stack.peek();
+            stack.push(arr[i]);
+        }
+        return result;
+    }
+}
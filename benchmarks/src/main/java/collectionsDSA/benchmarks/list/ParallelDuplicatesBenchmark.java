@@ -0,0 +1,58 @@
+package collectionsDSA.benchmarks.list;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.list.ArrayListDSA;
+import collectionsDSA.list.IntArrayList;
+import collectionsDSA.list.ParallelDuplicates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling curve for ParallelDuplicates. JMH runs one benchmark thread; the
+ * work fans out to a dedicated ForkJoinPool of {@code parallelism} workers so
+ * the sweep does not depend on the machine's common-pool size. Compare each
+ * row to {@code serial} at the same size for the speedup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class ParallelDuplicatesBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    int parallelism;
+
+    IntArrayList values;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = IntArrayList.of(distribution.keys(size));
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public IntArrayList serial() {
+        return ArrayListDSA.findDuplicates(values);
+    }
+
+    @Benchmark
+    public IntArrayList parallel() {
+        return ParallelDuplicates.findDuplicates(values, pool);
+    }
+}
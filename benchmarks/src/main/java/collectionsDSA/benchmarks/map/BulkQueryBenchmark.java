@@ -0,0 +1,89 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.BulkQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speedup curve for ConcurrentHashMap bulk reduces, as in
+ * ConcurrentHashMapDSA's BULK OPERATIONS section. Each call sums a function
+ * of every entry with reduceToLong on a dedicated ForkJoinPool of
+ * {@code parallelism} workers: {@code serial} (threshold Long.MAX_VALUE),
+ * {@code thresholdOne} (the demo's hard-coded 1) and {@code adaptive}
+ * (BulkQuery, threshold from size and measured cost - warmup trains it).
+ * CHEAP is the value itself, COSTLY a 64-round mix per entry. Compare each
+ * row to {@code serial} at the same size for the speedup.
+ *
+ * ConcurrentHashMap caps the split count at 4 x the common pool's
+ * parallelism, so the fork raises it to 64 to keep the cap out of the curve.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=64"})
+@State(Scope.Benchmark)
+public class BulkQueryBenchmark {
+
+    public enum Cost { CHEAP, COSTLY }
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"CHEAP", "COSTLY"})
+    Cost cost;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    int parallelism;
+
+    ConcurrentHashMap<Integer, Integer> map;
+    ForkJoinPool pool;
+    BulkQuery<Integer, Integer> query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = KeyDistribution.UNIFORM.keys(size);
+        map = new ConcurrentHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            map.put(i, values[i]);
+        }
+        pool = new ForkJoinPool(parallelism);
+        query = BulkQuery.of(map).on(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    long transform(Integer key, Integer value) {
+        if (cost == Cost.CHEAP) {
+            return value;
+        }
+        long h = value;
+        for (int round = 0; round < 64; round++) {
+            h = (h ^ (h >>> 31)) * 0x9E3779B97F4A7C15L;
+        }
+        return h;
+    }
+
+    @Benchmark
+    public long serial() {
+        return map.reduceToLong(Long.MAX_VALUE, this::transform, 0L, Long::sum);
+    }
+
+    @Benchmark
+    public long thresholdOne() {
+        return pool.invoke(ForkJoinTask.adapt(() -> map.reduceToLong(1, this::transform, 0L, Long::sum)));
+    }
+
+    @Benchmark
+    public long adaptive() {
+        return query.reduceToLong(this::transform, 0L, Long::sum);
+    }
+}
@@ -0,0 +1,125 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.benchmarks.ZipfianGenerator;
+import collectionsDSA.map.BoundedCache;
+import collectionsDSA.map.CacheStats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Replays key traces through BoundedCache with each eviction policy and
+ * prints the hit rate. Hit rate is a property of the policy and the trace,
+ * not of the JIT, so this is a plain main rather than a JMH benchmark.
+ * Every request is get(key), followed by put(key) on a miss.
+ *
+ * Synthetic traces (seeded, so runs are repeatable):
+ *   ZIPFIAN - 100k keys, skew 0.99
+ *   SCAN    - the same Zipfian traffic, interrupted every 100k requests by a
+ *             sequential scan of 50k keys that are never requested again
+ *   LOOP    - 0, 1, ... 1.5 * capacity, repeated (LRU's worst case)
+ *
+ *   java -cp target/benchmarks.jar collectionsDSA.benchmarks.map.CacheTraceReplay
+ *        [--capacity 1000,10000] [--requests 2000000] [--trace keys.txt ...]
+ *
+ * A --trace file holds one integer key per line (blank lines and lines
+ * starting with # are skipped).
+ */
+public class CacheTraceReplay {
+    private static final int KEY_SPACE = 100_000;
+    private static final int SCAN_EVERY = 100_000;
+    private static final int SCAN_LENGTH = 50_000;
+
+    public static void main(String[] args) throws IOException {
+        int[] capacities = {1_000, 10_000};
+        int requests = 2_000_000;
+        List<Path> traces = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--capacity":
+                    capacities = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--requests":
+                    requests = Integer.parseInt(args[++i]);
+                    break;
+                case "--trace":
+                    traces.add(Path.of(args[++i]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.printf("%-24s %10s %12s %10s %12s%n", "trace", "capacity", "requests", "LRU", "W-TinyLFU");
+        for (int capacity : capacities) {
+            report("ZIPFIAN", capacity, zipfian(requests));
+            report("SCAN", capacity, scan(requests));
+            report("LOOP", capacity, loop(requests, capacity + capacity / 2));
+            for (Path trace : traces) {
+                report(trace.getFileName().toString(), capacity, read(trace));
+            }
+        }
+    }
+
+    private static void report(String name, int capacity, int[] trace) {
+        System.out.printf("%-24s %10d %12d %9.2f%% %11.2f%%%n", name, capacity, trace.length,
+                100 * hitRate(trace, capacity, BoundedCache.Policy.LRU),
+                100 * hitRate(trace, capacity, BoundedCache.Policy.W_TINY_LFU));
+    }
+
+    static double hitRate(int[] trace, int capacity, BoundedCache.Policy policy) {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(capacity, policy, CacheStats.counters(), null);
+        for (int key : trace) {
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+        }
+        return cache.stats().snapshot().hitRate();
+    }
+
+    static int[] zipfian(int requests) {
+        ZipfianGenerator zipf = new ZipfianGenerator(KEY_SPACE, ZipfianGenerator.DEFAULT_SKEW,
+                KeyDistribution.DEFAULT_SEED);
+        int[] trace = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            trace[i] = zipf.next();
+        }
+        return trace;
+    }
+
+    static int[] scan(int requests) {
+        ZipfianGenerator zipf = new ZipfianGenerator(KEY_SPACE, ZipfianGenerator.DEFAULT_SKEW,
+                KeyDistribution.DEFAULT_SEED);
+        int[] trace = new int[requests];
+        int nextScanKey = KEY_SPACE;  // Scan keys never collide with the hot set
+        int i = 0;
+        while (i < requests) {
+            for (int j = 0; j < SCAN_EVERY && i < requests; j++) {
+                trace[i++] = zipf.next();
+            }
+            for (int j = 0; j < SCAN_LENGTH && i < requests; j++) {
+                trace[i++] = nextScanKey++;
+            }
+        }
+        return trace;
+    }
+
+    static int[] loop(int requests, int length) {
+        int[] trace = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            trace[i] = i % length;
+        }
+        return trace;
+    }
+
+    static int[] read(Path file) throws IOException {
+        return Files.lines(file)
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+}
@@ -0,0 +1,88 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.ConcurrentCounterMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Increment throughput of a shared counter map, as in ConcurrentHashMapDSA's
+ * ATOMIC OPERATIONS section: ConcurrentHashMap merge(key, 1, Integer::sum)
+ * vs ConcurrentHashMap of LongAdders vs ConcurrentCounterMap. Keys are
+ * ZIPFIAN over [0, keys), so a few hot keys take most increments and every
+ * thread hits them; UNIFORM spreads the writes for contrast. Every key is
+ * present before measuring. Sweep writer threads with the runner's
+ * --threads or -t (e.g. -t 1,8,64): per-thread ops/us should stay flat for
+ * the striped maps (LongAdder, ConcurrentCounterMap) and fall for merge.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ConcurrentCounterBenchmark {
+    private static final int OPS = 1 << 20;
+
+    public enum Impl { MERGE, LONG_ADDER, COUNTER_MAP }
+
+    @Param({"MERGE", "LONG_ADDER", "COUNTER_MAP"})
+    Impl impl;
+
+    @Param({"1000", "1000000"})
+    int keys;
+
+    @Param({"ZIPFIAN", "UNIFORM"})
+    KeyDistribution distribution;
+
+    Integer[] stream;
+    ConcurrentHashMap<Integer, Integer> merged;
+    ConcurrentHashMap<Integer, LongAdder> adders;
+    ConcurrentCounterMap<Integer> counters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] ids = distribution.keys(OPS);
+        stream = new Integer[OPS];
+        for (int i = 0; i < OPS; i++) {
+            stream[i] = Math.floorMod(ids[i], keys);  // Boxed once; the timed loop measures the map
+        }
+        merged = new ConcurrentHashMap<>();
+        adders = new ConcurrentHashMap<>();
+        counters = new ConcurrentCounterMap<>();
+        for (int key = 0; key < keys; key++) {
+            merged.put(key, 0);
+            adders.put(key, new LongAdder());
+            counters.add(key, 0);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = new SplittableRandom().nextInt(OPS);  // Threads start at different offsets
+        }
+    }
+
+    @Benchmark
+    public void increment(Cursor cursor) {
+        Integer key = stream[cursor.next = (cursor.next + 1) & (OPS - 1)];
+        switch (impl) {
+            case MERGE:
+                merged.merge(key, 1, Integer::sum);
+                break;
+            case LONG_ADDER:
+                adders.computeIfAbsent(key, k -> new LongAdder()).increment();
+                break;
+            default:
+                counters.increment(key);
+        }
+    }
+}
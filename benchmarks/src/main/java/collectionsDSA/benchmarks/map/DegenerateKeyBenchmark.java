@@ -0,0 +1,117 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.map.SeededHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the "Hash Collision Handling" section in HashMapDSA: get and
+ * remove + put of one key at a time in a map of {@code size} keys whose
+ * hashCodes collide, HashMap vs SeededHashMap.
+ *
+ * <ul>
+ *   <li>BAD_HASH - BadHashKey (constant hashCode, not Comparable): HashMap
+ *       scans the bucket; SeededHashMap tree-bins it by a SipHash of the content</li>
+ *   <li>COLLIDING_STRINGS - "Aa"/"BB" concatenations, one shared String.hashCode:
+ *       both maps tree-bin them (HashMap through compareTo)</li>
+ *   <li>DISTINCT_STRINGS - ordinary keys, the price of the seeded mix</li>
+ * </ul>
+ *
+ * HashMap with BAD_HASH is quadratic to set up: 1e5 keys take a few seconds
+ * per fork before the first iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DegenerateKeyBenchmark {
+
+    public enum Keys { BAD_HASH, COLLIDING_STRINGS, DISTINCT_STRINGS }
+
+    public enum Impl { HASH_MAP, SEEDED_HASH_MAP }
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"BAD_HASH", "COLLIDING_STRINGS", "DISTINCT_STRINGS"})
+    Keys keys;
+
+    @Param({"HASH_MAP", "SEEDED_HASH_MAP"})
+    Impl impl;
+
+    Object[] lookups;      // The map's keys as equal copies, in shuffled order
+    Map<Object, Integer> map;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = impl == Impl.HASH_MAP
+                ? new HashMap<>()
+                : new SeededHashMap<>((key, k0, k1) -> key instanceof BadHashKey
+                        ? SeededHashMap.sipHash(((BadHashKey) key).value, k0, k1)
+                        : SeededHashMap.KeyHasher.DEFAULT.hash(key, k0, k1));
+        lookups = new Object[size];
+        for (int i = 0; i < size; i++) {
+            map.put(key(i), i);
+            lookups[i] = key(i);
+        }
+        Collections.shuffle(Arrays.asList(lookups), new Random(42));
+    }
+
+    private Object key(int i) {
+        switch (keys) {
+            case BAD_HASH:
+                return new BadHashKey("key" + i);
+            case COLLIDING_STRINGS:
+                StringBuilder sb = new StringBuilder();
+                for (int bit = 0; bit < 17; bit++) {     // 2^17 strings, one hashCode
+                    sb.append((i >>> bit & 1) == 0 ? "Aa" : "BB");
+                }
+                return sb.toString();
+            default:
+                return "key" + i;
+        }
+    }
+
+    private Object next() {
+        Object key = lookups[cursor];
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return key;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return map.get(next());
+    }
+
+    @Benchmark
+    public Integer removePut() {
+        Object key = next();
+        Integer value = map.remove(key);
+        map.put(key, value);
+        return value;
+    }
+
+    // Copy of HashMapDSA.BadHashKey: every instance hashes to 42
+    static final class BadHashKey {
+        final String value;
+
+        BadHashKey(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof BadHashKey && ((BadHashKey) obj).value.equals(value);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.FlatHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HashMap vs FlatHashMap, one operation per call on a map of {@code size}
+ * Integer keys, visited in shuffled order so large maps miss the caches:
+ *
+ * <ul>
+ *   <li>getHit / getMiss - present keys are even, absent ones odd</li>
+ *   <li>put - overwrite the value of a present key</li>
+ *   <li>putRemove - insert an absent key and remove it again; the map stays
+ *       at {@code size}, FlatHashMap's removes exercise its EMPTY/tombstone path</li>
+ * </ul>
+ *
+ * Run with {@code -prof perfnorm} (Linux perf) for cache misses per
+ * operation; retained bytes per entry come from {@link FlatHashMapFootprint}.
+ * 1e8 entries need ~12 GB of heap for HashMap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class FlatHashMapBenchmark {
+
+    public enum Impl { HASH_MAP, FLAT_HASH_MAP }
+
+    @Param({"1000", "100000", "1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"HASH_MAP", "FLAT_HASH_MAP"})
+    Impl impl;
+
+    Map<Integer, Integer> map;
+    Integer[] hits;        // The map's own key objects, shuffled
+    Integer[] misses;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] keys = KeyDistribution.UNIFORM.keys(size);
+        map = impl == Impl.HASH_MAP ? new HashMap<>() : new FlatHashMap<>();
+        hits = new Integer[size];
+        misses = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            hits[i] = keys[i] << 1;
+            misses[i] = keys[i] << 1 | 1;
+            map.put(hits[i], i);
+        }
+        Random random = new Random(42);
+        Collections.shuffle(Arrays.asList(hits), random);
+        Collections.shuffle(Arrays.asList(misses), random);
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = i + 1 == size ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public Integer getHit() {
+        return map.get(hits[next()]);
+    }
+
+    @Benchmark
+    public Integer getMiss() {
+        return map.get(misses[next()]);
+    }
+
+    @Benchmark
+    public Integer put() {
+        int i = next();
+        return map.put(hits[i], i);
+    }
+
+    @Benchmark
+    public Integer putRemove() {
+        Integer key = misses[next()];
+        map.put(key, 0);
+        return map.remove(key);
+    }
+}
@@ -0,0 +1,47 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.FlatHashMap;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.*;
+
+/**
+ * Retained heap size of HashMap vs FlatHashMap holding the same Integer
+ * keys and values, measured with JOL by walking the object graph. Each
+ * Integer is both key and value of its entry, so the boxes are the same
+ * objects in both maps; "structure" subtracts them to leave what the map
+ * itself costs (tables, nodes, control bytes).
+ *
+ *   java -cp target/benchmarks.jar collectionsDSA.benchmarks.map.FlatHashMapFootprint [size ...]
+ */
+public class FlatHashMapFootprint {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[] {1_000, 100_000, 1_000_000, 10_000_000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        System.out.printf("%-12s %-28s %16s %12s %16s%n", "size", "structure", "bytes", "bytes/elem", "structure/elem");
+        for (int size : sizes) {
+            int[] keys = KeyDistribution.UNIFORM.keys(size);
+            HashMap<Integer, Integer> hashMap = new HashMap<>();
+            FlatHashMap<Integer, Integer> flatMap = new FlatHashMap<>();
+            for (int key : keys) {
+                Integer boxed = key;
+                hashMap.put(boxed, boxed);
+                flatMap.put(boxed, boxed);
+            }
+            long boxes = GraphLayout.parseInstance(hashMap.keySet().toArray()).totalSize()
+                    - GraphLayout.parseInstance((Object) new Object[hashMap.size()]).totalSize();
+
+            report(hashMap.size(), "HashMap<Integer,Integer>", GraphLayout.parseInstance(hashMap).totalSize(), boxes);
+            report(flatMap.size(), "FlatHashMap<Integer,Integer>", GraphLayout.parseInstance(flatMap).totalSize(), boxes);
+        }
+    }
+
+    private static void report(int size, String structure, long bytes, long boxes) {
+        System.out.printf("%-12d %-28s %16d %12.1f %16.1f%n",
+                size, structure, bytes, bytes / (double) size, (bytes - boxes) / (double) size);
+    }
+}
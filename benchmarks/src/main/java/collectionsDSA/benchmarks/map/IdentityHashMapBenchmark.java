@@ -0,0 +1,64 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the "PERFORMANCE COMPARISON DEMONSTRATION" in IdentityHashMapDSA:
+ * identity (==) lookups vs equals() lookups over distinct String key objects.
+ * The distribution decides which keys are looked up and how often.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class IdentityHashMapBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    String[] lookups;
+    IdentityHashMap<String, Integer> identityMap;
+    HashMap<String, Integer> hashMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] keys = new String[size];
+        identityMap = new IdentityHashMap<>(size);
+        hashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = new String("Key" + i);  // Different objects
+            identityMap.put(keys[i], i);
+            hashMap.put(keys[i], i);
+        }
+
+        int[] order = distribution.keys(size);
+        lookups = new String[size];
+        for (int i = 0; i < size; i++) {
+            lookups[i] = keys[Math.floorMod(order[i], size)];
+        }
+    }
+
+    @Benchmark
+    public void identityHashMapGet(Blackhole bh) {
+        for (String key : lookups) {
+            bh.consume(identityMap.get(key));  // Identity check
+        }
+    }
+
+    @Benchmark
+    public void hashMapGet(Blackhole bh) {
+        for (String key : lookups) {
+            bh.consume(hashMap.get(key));  // Equals check
+        }
+    }
+}
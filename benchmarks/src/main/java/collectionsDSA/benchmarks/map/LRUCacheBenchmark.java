@@ -0,0 +1,120 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.ZipfianGenerator;
+import collectionsDSA.map.ConcurrentLRUCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of ConcurrentLRUCache against the obvious
+ * alternative, Collections.synchronizedMap over an access-ordered
+ * LinkedHashMap. Keys are Zipfian over 4x the capacity, so hits, misses and
+ * evictions all happen. Sweep threads with the runner's --threads or -t.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class LRUCacheBenchmark {
+    private static final int OPS = 1 << 20;
+
+    public enum Impl { SYNCHRONIZED, CONCURRENT }
+
+    @Param({"SYNCHRONIZED", "CONCURRENT"})
+    Impl impl;
+
+    @Param({"1000", "100000"})
+    int capacity;
+
+    @Param({"100", "95", "75"})
+    int readPercent;
+
+    Cache cache;
+    Integer[] keys;
+    boolean[] isRead;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ZipfianGenerator zipf = new ZipfianGenerator(capacity * 4, ZipfianGenerator.DEFAULT_SKEW, 42);
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new Integer[OPS];
+        isRead = new boolean[OPS];
+        for (int i = 0; i < OPS; i++) {
+            keys[i] = zipf.next();
+            isRead[i] = random.nextInt(100) < readPercent;
+        }
+
+        cache = impl == Impl.CONCURRENT ? concurrent(capacity) : synchronizedLru(capacity);
+        for (int i = 0; i < capacity; i++) {
+            cache.put(keys[i], keys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = new SplittableRandom().nextInt(OPS);  // Threads start at different offsets
+        }
+    }
+
+    @Benchmark
+    public Object readWrite(Cursor cursor) {
+        int i = cursor.next = (cursor.next + 1) & (OPS - 1);
+        Integer key = keys[i];
+        if (isRead[i]) {
+            return cache.get(key);
+        }
+        cache.put(key, key);
+        return key;
+    }
+
+    interface Cache {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    // Same as LinkedHashMapDSA.LRUCache (package-private there), wrapped in
+    // the synchronized view callers would reach for
+    static Cache synchronizedLru(int capacity) {
+        Map<Integer, Integer> map = Collections.synchronizedMap(new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        });
+        return new Cache() {
+            @Override
+            public Integer get(Integer key) {
+                return map.get(key);
+            }
+
+            @Override
+            public void put(Integer key, Integer value) {
+                map.put(key, value);
+            }
+        };
+    }
+
+    static Cache concurrent(int capacity) {
+        ConcurrentLRUCache<Integer, Integer> lru = new ConcurrentLRUCache<>(capacity);
+        return new Cache() {
+            @Override
+            public Integer get(Integer key) {
+                return lru.get(key);
+            }
+
+            @Override
+            public void put(Integer key, Integer value) {
+                lru.put(key, value);
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.IntIntMap;
+import collectionsDSA.map.LongLongMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counter increments keyed by numeric ids, as in HashMapDSA's MERGE
+ * OPERATIONS section: HashMap merge(id, 1, sum) vs the primitive maps'
+ * addTo(id, 1). Ids follow the distribution over [0, size), so ZIPFIAN
+ * keeps a hot set and UNIFORM spreads over the whole map. Run with
+ * {@code -prof gc}: the primitive maps should report 0 bytes/op once every
+ * id has been seen (the boxed maps allocate a Long per call, and an Integer
+ * per call above 127).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PrimitiveMapBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    int[] ids;
+    int cursor;
+    HashMap<Long, Long> boxedLongs;
+    HashMap<Integer, Integer> boxedInts;
+    LongLongMap longs;
+    IntIntMap ints;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = distribution.keys(size);
+        for (int i = 0; i < size; i++) {
+            ids[i] = Math.floorMod(ids[i], size);
+        }
+        boxedLongs = new HashMap<>();
+        boxedInts = new HashMap<>();
+        longs = new LongLongMap();
+        ints = new IntIntMap();
+        for (int id : ids) {        // Every id present: measure updates, not growth
+            boxedLongs.put((long) id, 0L);
+            boxedInts.put(id, 0);
+            longs.put(id, 0);
+            ints.put(id, 0);
+        }
+    }
+
+    private int next() {
+        int id = ids[cursor];
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return id;
+    }
+
+    @Benchmark
+    public Long hashMapLongMerge() {
+        return boxedLongs.merge((long) next(), 1L, Long::sum);
+    }
+
+    @Benchmark
+    public long longLongMapAddTo() {
+        return longs.addTo(next(), 1);
+    }
+
+    @Benchmark
+    public Integer hashMapIntegerMerge() {
+        return boxedInts.merge(next(), 1, Integer::sum);
+    }
+
+    @Benchmark
+    public int intIntMapAddTo() {
+        return ints.addTo(next(), 1);
+    }
+}
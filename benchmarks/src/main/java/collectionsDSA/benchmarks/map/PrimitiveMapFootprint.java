@@ -0,0 +1,85 @@
+package collectionsDSA.benchmarks.map;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.map.IntIntMap;
+import collectionsDSA.map.LongLongMap;
+import collectionsDSA.map.LongObjectMap;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.*;
+
+/**
+ * Retained heap size of id-keyed counters, boxed HashMap vs the primitive
+ * maps, measured with JOL by walking the object graph (boxes included, so
+ * this is what a heap dump would attribute to each map). Keys are distinct
+ * ids, values are counts in [0, 1000) - small enough to hit the Integer
+ * cache, not the Long one. LongObjectMap is measured without its values
+ * (they are shared String constants), to isolate the per-entry overhead.
+ *
+ *   java -Djdk.attach.allowAttachSelf=true -cp target/benchmarks.jar \
+ *        collectionsDSA.benchmarks.map.PrimitiveMapFootprint [size ...]
+ *
+ * 50M entries need -Xmx32g: the JOL walk of HashMap<Long, Long> (150M
+ * objects) costs more than the map itself.
+ */
+public class PrimitiveMapFootprint {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[] {1_000_000, 10_000_000, 50_000_000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        System.out.printf("%-12s %-28s %16s %12s%n", "size", "structure", "bytes", "bytes/elem");
+        for (int size : sizes) {
+            int[] ids = KeyDistribution.SEQUENTIAL.keys(size);
+
+            HashMap<Long, Long> boxedLongs = new HashMap<>();
+            for (int id : ids) {
+                boxedLongs.put((long) id + 1, (long) (id % 1000));
+            }
+            report(size, "HashMap<Long,Long>", GraphLayout.parseInstance(boxedLongs).totalSize());
+            boxedLongs = null;
+
+            LongLongMap longs = new LongLongMap();
+            for (int id : ids) {
+                longs.put(id + 1, id % 1000);
+            }
+            report(size, "LongLongMap", GraphLayout.parseInstance(longs).totalSize());
+            longs = null;
+
+            HashMap<Integer, Integer> boxedInts = new HashMap<>();
+            for (int id : ids) {
+                boxedInts.put(id + 1, id % 1000);
+            }
+            report(size, "HashMap<Integer,Integer>", GraphLayout.parseInstance(boxedInts).totalSize());
+            boxedInts = null;
+
+            IntIntMap ints = new IntIntMap();
+            for (int id : ids) {
+                ints.put(id + 1, id % 1000);
+            }
+            report(size, "IntIntMap", GraphLayout.parseInstance(ints).totalSize());
+            ints = null;
+
+            String value = "value";
+            HashMap<Long, String> boxedObjects = new HashMap<>();
+            for (int id : ids) {
+                boxedObjects.put((long) id + 1, value);
+            }
+            report(size, "HashMap<Long,String> (-val)",
+                    GraphLayout.parseInstance(boxedObjects).totalSize() - GraphLayout.parseInstance(value).totalSize());
+            boxedObjects = null;
+
+            LongObjectMap<String> objects = new LongObjectMap<>();
+            for (int id : ids) {
+                objects.put(id + 1, value);
+            }
+            report(size, "LongObjectMap<String> (-val)",
+                    GraphLayout.parseInstance(objects).totalSize() - GraphLayout.parseInstance(value).totalSize());
+        }
+    }
+
+    private static void report(int size, String structure, long bytes) {
+        System.out.printf("%-12d %-28s %16d %12.1f%n", size, structure, bytes, bytes / (double) size);
+    }
+}
@@ -0,0 +1,104 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.queue.ExternalSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExternalSort.sortLongs on a file of {@code size} random big-endian longs
+ * with a {@code budget} (MB) memory budget, against loading the whole file
+ * into a long[], Arrays.sort and writing it back. The in-memory sort needs
+ * 8 * size bytes of heap; the external sort stays within the budget, so
+ * budget=16 on size=1e8 sorts 800 MB in 16 MB (50 runs, one merge pass).
+ * {@code budget} does not apply to {@code inMemory}.
+ * Single-shot: one sort is seconds of disk I/O, the page cache is warm
+ * after the first iteration.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ExternalSortBenchmark {
+
+    @Param({"10000000", "100000000"})
+    int size;
+
+    @Param({"16", "256"})
+    int budget;
+
+    Path dir;
+    Path input;
+    Path output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("external-sort");
+        input = dir.resolve("input.bin");
+        output = dir.resolve("output.bin");
+        SplittableRandom random = new SplittableRandom(42);
+        ByteBuffer block = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (long i = 0; i < size; i++) {
+                if (!block.hasRemaining()) {
+                    write(channel, block);
+                }
+                block.putLong(random.nextLong());
+            }
+            write(channel, block);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public long externalSort() throws IOException {
+        return ExternalSort.sortLongs(input, output, (long) budget << 20);
+    }
+
+    @Benchmark
+    public long inMemory() throws IOException {
+        long[] values = new long[size];
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            LongBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asLongBuffer();
+            mapped.get(values);
+        }
+        Arrays.sort(values);
+        ByteBuffer block = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long value : values) {
+                if (!block.hasRemaining()) {
+                    write(channel, block);
+                }
+                block.putLong(value);
+            }
+            write(channel, block);
+        }
+        return values.length;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer block) throws IOException {
+        block.flip();
+        while (block.hasRemaining()) {
+            channel.write(block);
+        }
+        block.clear();
+    }
+}
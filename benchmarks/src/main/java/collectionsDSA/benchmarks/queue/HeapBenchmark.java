@@ -0,0 +1,199 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.queue.IndexedHeap;
+import collectionsDSA.queue.KeyedHeap;
+import collectionsDSA.queue.PairingHeap;
+import collectionsDSA.queue.RadixHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The KeyedHeap family against a PriorityQueue baseline, at a steady
+ * {@code size} keys:
+ * <ul>
+ *   <li>{@code offerPoll} - the hold model: poll the head, offer it back
+ *       with a later priority (monotone, so RadixHeap qualifies);</li>
+ *   <li>{@code decreaseKey} - halve a random key's priority, re-raising it
+ *       once it reaches 1 (about one increase per 20 decreases).</li>
+ * </ul>
+ * PRIORITY_QUEUE changes a priority with remove(Object) + offer, the O(n)
+ * path the family replaces. Keys are pre-boxed Integers, so the only
+ * allocation measured is the heaps' own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HeapBenchmark {
+
+    public enum Kind {
+        PRIORITY_QUEUE {
+            KeyedHeap<Integer> create() {
+                return new PriorityQueueHeap<>();
+            }
+        },
+        DARY_2 {
+            KeyedHeap<Integer> create() {
+                return IndexedHeap.minFirst(2);
+            }
+        },
+        DARY_4 {
+            KeyedHeap<Integer> create() {
+                return IndexedHeap.minFirst(4);
+            }
+        },
+        DARY_8 {
+            KeyedHeap<Integer> create() {
+                return IndexedHeap.minFirst(8);
+            }
+        },
+        PAIRING {
+            KeyedHeap<Integer> create() {
+                return new PairingHeap<>();
+            }
+        },
+        RADIX {
+            KeyedHeap<Integer> create() {
+                return new RadixHeap<>();
+            }
+        };
+
+        abstract KeyedHeap<Integer> create();
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"PRIORITY_QUEUE", "DARY_2", "DARY_4", "DARY_8", "PAIRING", "RADIX"})
+    Kind heap;
+
+    Integer[] keys;
+    KeyedHeap<Integer> queue;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        keys = new Integer[size];
+        queue = heap.create();
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+            queue.offer(keys[i], 1 + random.nextInt(1 << 20));
+        }
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        long priority = queue.peekPriority();
+        Integer key = queue.poll();
+        queue.offer(key, priority + 1 + random.nextInt(1 << 20));
+        return key;
+    }
+
+    @Benchmark
+    public long decreaseKey() {
+        Integer key = keys[random.nextInt(size)];
+        long priority = queue.priority(key);
+        long next = priority > 1 ? priority / 2 : 1 + random.nextInt(1 << 20);
+        queue.update(key, next);
+        return next;
+    }
+
+    // java.util.PriorityQueue behind the KeyedHeap interface: the "before"
+    static final class PriorityQueueHeap<K> implements KeyedHeap<K> {
+        private final PriorityQueue<Entry<K>> queue =
+                new PriorityQueue<>(Comparator.comparingLong((Entry<K> e) -> e.priority));
+        private final HashMap<K, Entry<K>> entries = new HashMap<>();
+
+        @Override
+        public void offer(K key, long priority) {
+            Entry<K> entry = new Entry<>(key, priority);
+            if (entries.putIfAbsent(key, entry) != null) {
+                throw new IllegalArgumentException("Already queued: " + key);
+            }
+            queue.offer(entry);
+        }
+
+        @Override
+        public boolean update(K key, long priority) {
+            Entry<K> entry = entries.get(key);
+            if (entry == null) {
+                return false;
+            }
+            queue.remove(entry);   // O(n)
+            entry.priority = priority;
+            queue.offer(entry);
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            Entry<K> entry = entries.remove(key);
+            return entry != null && queue.remove(entry);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public long priority(Object key) {
+            Entry<K> entry = entries.get(key);
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            return entry.priority;
+        }
+
+        @Override
+        public K peek() {
+            Entry<K> head = queue.peek();
+            return head == null ? null : head.key;
+        }
+
+        @Override
+        public long peekPriority() {
+            Entry<K> head = queue.peek();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            return head.priority;
+        }
+
+        @Override
+        public K poll() {
+            Entry<K> head = queue.poll();
+            if (head == null) {
+                return null;
+            }
+            entries.remove(head.key);
+            return head.key;
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+            entries.clear();
+        }
+
+        static final class Entry<K> {
+            final K key;
+            long priority;
+
+            Entry(K key, long priority) {
+                this.key = key;
+                this.priority = priority;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.HeavyHitters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming top-k: cost of one (key, weight) update per HeavyHitters mode,
+ * with and without a concurrent reader. In the {@code ingestWithQueries}
+ * group one thread adds while another keeps taking top(100) snapshots;
+ * compare its {@code add} score to plain {@code add} to see what queries cost
+ * the ingest path (the reader only holds the lock while copying counters).
+ * Keys are Zipfian over 1M items (a few hot keys, a long tail), the shape
+ * heavy-hitter summaries are meant for. EXACT grows to every distinct key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class HeavyHittersBenchmark {
+
+    private static final int STREAM = 1 << 20;
+
+    @Param({"EXACT", "SPACE_SAVING", "MISRA_GRIES"})
+    HeavyHitters.Mode mode;
+
+    @Param({"1000"})
+    int capacity;
+
+    Integer[] keys;
+    HeavyHitters<Integer> summary;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.boxed(KeyDistribution.ZIPFIAN.keys(STREAM));
+        summary = mode == HeavyHitters.Mode.EXACT ? HeavyHitters.exact()
+                : mode == HeavyHitters.Mode.SPACE_SAVING ? HeavyHitters.spaceSaving(capacity)
+                : HeavyHitters.misraGries(capacity);
+    }
+
+    @Benchmark
+    @Group("ingest")
+    public void add() {
+        summary.add(keys[next++ & (STREAM - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithQueries")
+    public void addWhileQueried() {
+        summary.add(keys[next++ & (STREAM - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithQueries")
+    public List<HeavyHitters.Entry<Integer>> top100() {
+        return summary.top(100);
+    }
+}
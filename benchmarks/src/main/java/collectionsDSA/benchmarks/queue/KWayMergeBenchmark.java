@@ -0,0 +1,112 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.LoserTreeMerge;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriorityQueueDSA.mergeSortedArrays before (PriorityQueue&lt;ArrayEntry&gt;,
+ * one entry object per element) against LoserTreeMerge. {@code loserTreeBoxed}
+ * is the same List&lt;List&lt;Integer&gt;&gt; signature; {@code loserTreeInt}
+ * merges int[] runs into a reused buffer and {@code loserTreeSink} streams them
+ * into a checksum, so neither allocates per element. Run with
+ * {@code -prof gc} to see the ArrayEntry churn in gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class KWayMergeBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @Param({"2", "16", "1000"})
+    int runs;
+
+    int[][] intRuns;
+    List<List<Integer>> boxedRuns;
+    int[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] keys = KeyDistribution.UNIFORM.keys(size);
+        intRuns = new int[runs][];
+        boxedRuns = new ArrayList<>(runs);
+        for (int r = 0; r < runs; r++) {
+            int from = (int) ((long) size * r / runs);
+            int to = (int) ((long) size * (r + 1) / runs);
+            intRuns[r] = Arrays.copyOfRange(keys, from, to);
+            Arrays.sort(intRuns[r]);
+            boxedRuns.add(new ArrayList<>(Arrays.asList(KeyDistribution.boxed(intRuns[r]))));
+        }
+        buffer = new int[size];
+    }
+
+    @Benchmark
+    public List<Integer> boxedPriorityQueue() {
+        return heapMergeSortedArrays(boxedRuns);
+    }
+
+    @Benchmark
+    public List<Integer> loserTreeBoxed() {
+        return LoserTreeMerge.merge(boxedRuns);
+    }
+
+    @Benchmark
+    public int[] loserTreeInt() {
+        LoserTreeMerge.merge(intRuns, buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public long loserTreeSink() {
+        long[] checksum = {0};
+        LoserTreeMerge.merge(intRuns, value -> checksum[0] = checksum[0] * 31 + value);
+        return checksum[0];
+    }
+
+    // PriorityQueueDSA.mergeSortedArrays before LoserTreeMerge
+    static List<Integer> heapMergeSortedArrays(List<List<Integer>> arrays) {
+        PriorityQueue<ArrayEntry> minHeap = new PriorityQueue<>();
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < arrays.size(); i++) {
+            List<Integer> array = arrays.get(i);
+            if (!array.isEmpty()) {
+                minHeap.offer(new ArrayEntry(array.get(0), i, 0));
+            }
+        }
+        while (!minHeap.isEmpty()) {
+            ArrayEntry entry = minHeap.poll();
+            result.add(entry.value);
+            List<Integer> array = arrays.get(entry.arrayIndex);
+            if (entry.elementIndex + 1 < array.size()) {
+                minHeap.offer(new ArrayEntry(array.get(entry.elementIndex + 1), entry.arrayIndex,
+                        entry.elementIndex + 1));
+            }
+        }
+        return result;
+    }
+
+    static final class ArrayEntry implements Comparable<ArrayEntry> {
+        final int value;
+        final int arrayIndex;
+        final int elementIndex;
+
+        ArrayEntry(int value, int arrayIndex, int elementIndex) {
+            this.value = value;
+            this.arrayIndex = arrayIndex;
+            this.elementIndex = elementIndex;
+        }
+
+        @Override
+        public int compareTo(ArrayEntry other) {
+            return Integer.compare(value, other.value);
+        }
+    }
+}
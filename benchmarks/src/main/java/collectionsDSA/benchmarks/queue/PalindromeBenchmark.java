@@ -0,0 +1,93 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.PalindromeChecker;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArrayDequeDSA.checkPalindrome before (toCharArray + ArrayDeque&lt;Character&gt;)
+ * and after (PalindromeChecker over the String, and over the same text as
+ * UTF-8 in a direct ByteBuffer). Inputs are true palindromes, so every
+ * version reads the whole text. With {@code -prof gc} the before version
+ * allocates the char[] copy plus the deque (Character boxes above the cache
+ * for non-ASCII text); PalindromeChecker allocates nothing per call beyond
+ * one small window object for the ByteBuffer case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PalindromeBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    int size;
+
+    String text;
+    ByteBuffer bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = sentencePalindrome(size, KeyDistribution.DEFAULT_SEED);
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        bytes = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+        if (!dequeCheckPalindrome(text) || !PalindromeChecker.isPalindrome(text)) {
+            throw new IllegalStateException("generator produced a non-palindrome");
+        }
+    }
+
+    @Benchmark
+    public boolean boxedDeque() {
+        return dequeCheckPalindrome(text);
+    }
+
+    @Benchmark
+    public boolean charSequence() {
+        return PalindromeChecker.isPalindrome(text);
+    }
+
+    @Benchmark
+    public boolean charSequenceNormalized() {
+        return PalindromeChecker.isPalindrome(text, PalindromeChecker.NORMALIZED);
+    }
+
+    @Benchmark
+    public boolean directByteBuffer() {
+        return PalindromeChecker.isPalindrome(bytes, 0);
+    }
+
+    // ArrayDequeDSA.checkPalindrome before PalindromeChecker
+    static boolean dequeCheckPalindrome(String str) {
+        ArrayDeque<Character> deque = new ArrayDeque<>();
+        for (char c : str.toCharArray()) {
+            deque.addLast(c);
+        }
+        while (deque.size() > 1) {
+            Character first = deque.pollFirst();
+            Character last = deque.pollLast();
+            if (!first.equals(last)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Exact palindrome of n chars: lower-case letters and spaces, no surrogates
+    static String sentencePalindrome(int n, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] chars = new char[n];
+        for (int i = 0, j = n - 1; i <= j; i++, j--) {
+            char c = random.nextInt(6) == 0 ? ' ' : (char) ('a' + random.nextInt(26));
+            chars[i] = c;
+            chars[j] = c;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,55 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the "PERFORMANCE COMPARISON" section in PriorityQueueDSA:
+ * offer n keys, and offer-then-drain n keys. DESCENDING is the order the
+ * original demo used and is the worst case for sift-up in a min-heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PriorityQueueBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "DESCENDING", "UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    Integer[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.boxed(distribution.keys(size));
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> offer() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer key : keys) {
+            queue.offer(key);
+        }
+        return queue;
+    }
+
+    @Benchmark
+    public void offerThenPoll(Blackhole bh) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer key : keys) {
+            queue.offer(key);
+        }
+        while (!queue.isEmpty()) {
+            bh.consume(queue.poll());
+        }
+    }
+}
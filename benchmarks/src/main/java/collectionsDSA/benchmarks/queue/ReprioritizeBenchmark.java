@@ -0,0 +1,82 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.queue.IndexedHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The scheduler's hot path: change one queued task's priority. Before,
+ * PriorityQueue&lt;Task&gt; needs remove(task) (an O(n) scan) plus offer;
+ * IndexedHeap.update finds the task's slot through its index and sifts it,
+ * O(log n). Tasks and new priorities are drawn from a seeded random stream,
+ * so both sides do the same work. {@code arity} only applies to
+ * {@code indexedHeap}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ReprioritizeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"2", "4", "8"})
+    int arity;
+
+    Task[] tasks;
+    PriorityQueue<Task> priorityQueue;
+    IndexedHeap<Task> indexedHeap;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        tasks = new Task[size];
+        priorityQueue = new PriorityQueue<>(size);
+        indexedHeap = IndexedHeap.minFirst(arity);
+        for (int i = 0; i < size; i++) {
+            tasks[i] = new Task("task-" + i, random.nextInt(size));
+            priorityQueue.offer(tasks[i]);
+            indexedHeap.offer(tasks[i], tasks[i].priority);
+        }
+    }
+
+    @Benchmark
+    public Task priorityQueue() {
+        Task task = tasks[random.nextInt(size)];
+        priorityQueue.remove(task);
+        task.priority = random.nextInt(size);
+        priorityQueue.offer(task);
+        return priorityQueue.peek();
+    }
+
+    @Benchmark
+    public Task indexedHeap() {
+        Task task = tasks[random.nextInt(size)];
+        task.priority = random.nextInt(size);
+        indexedHeap.update(task, task.priority);
+        return indexedHeap.peek();
+    }
+
+    // PriorityQueueDSA.Task: compared by priority, identity equality
+    static final class Task implements Comparable<Task> {
+        final String name;
+        int priority;
+
+        Task(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.ArrayDequeDSA;
+import collectionsDSA.queue.BlockWindowExtrema;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArrayDequeDSA.slidingWindowMaximum before (ArrayDeque&lt;Integer&gt; of
+ * indices) and after (IntDeque). Every index is boxed once on the way in
+ * before, so allocation grows with n for indices above the Integer cache. With
+ * {@code -prof gc}, the after version allocates only the result array and an
+ * O(window) deque.
+ *
+ * <p>{@code blocks} is the block-decomposition version; sweeping
+ * {@code window} shows where it overtakes the deque, which is what
+ * ArrayDequeDSA.BLOCK_THRESHOLD is set from. {@code selected} is the public
+ * entry point that picks between them. {@code vectorBlocks} is the same
+ * decomposition on the Vector API (VectorWindowExtrema), scalar below one
+ * vector of window. A command-line -jvmArgsAppend replaces the fork's
+ * arguments, so repeat {@code --add-modules jdk.incubator.vector} there.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SlidingWindowBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    int size;
+
+    @Param({"2", "4", "8", "16", "64", "1024"})
+    int window;
+
+    @Param({"UNIFORM", "DESCENDING"})
+    KeyDistribution distribution;
+
+    int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = distribution.keys(size);
+    }
+
+    @Benchmark
+    public int[] boxedDeque() {
+        return boxedSlidingWindowMaximum(values, window);
+    }
+
+    @Benchmark
+    public int[] intDeque() {
+        return ArrayDequeDSA.dequeWindowMaximum(values, window);
+    }
+
+    @Benchmark
+    public int[] blocks() {
+        return BlockWindowExtrema.max(values, window);
+    }
+
+    @Benchmark
+    public int[] vectorBlocks() {
+        return VectorWindowExtrema.max(values, window);
+    }
+
+    @Benchmark
+    public int[] selected() {
+        return ArrayDequeDSA.slidingWindowMaximum(values, window);
+    }
+
+    // ArrayDequeDSA.slidingWindowMaximum before IntDeque
+    static int[] boxedSlidingWindowMaximum(int[] nums, int k) {
+        int[] result = new int[nums.length - k + 1];
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < nums.length; i++) {
+            while (!deque.isEmpty() && deque.peekFirst() <= i - k) {
+                deque.pollFirst();
+            }
+            while (!deque.isEmpty() && nums[deque.peekLast()] < nums[i]) {
+                deque.pollLast();
+            }
+            deque.offerLast(i);
+            if (i >= k - 1) {
+                result[i - k + 1] = nums[deque.peekFirst()];
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.TopK;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriorityQueueDSA.findTopKElements before (PriorityQueue&lt;Integer&gt; +
+ * Collections.sort) against TopK's two strategies. {@code heap} and
+ * {@code select} force one strategy each, so sweeping {@code k} shows where
+ * quickselect overtakes the heap (TopK.SELECT_RATIO); {@code auto} is the
+ * public entry point. The fork-join work runs on a dedicated pool of
+ * {@code parallelism} workers - compare parallelism=1 to the others for the
+ * speedup of the chunk heaps. SEQUENTIAL input is the heap's worst case:
+ * every value beats the current top.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+
+    @Param({"1000000", "100000000"})
+    int size;
+
+    @Param({"100", "10000", "62500", "250000"})
+    int k;
+
+    @Param({"UNIFORM", "SEQUENTIAL"})
+    KeyDistribution distribution;
+
+    @Param({"1", "8"})
+    int parallelism;
+
+    int[] values;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = distribution.keys(size);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> boxedPriorityQueue() {
+        return boxedFindTopKElements(values, k);
+    }
+
+    @Benchmark
+    public int[] heap() {
+        return TopK.largestByHeap(values, k, pool);
+    }
+
+    @Benchmark
+    public int[] select() {
+        return TopK.largestBySelect(values, k);
+    }
+
+    @Benchmark
+    public int[] auto() {
+        return TopK.largest(values, k, pool);
+    }
+
+    // PriorityQueueDSA.findTopKElements before TopK
+    static List<Integer> boxedFindTopKElements(int[] nums, int k) {
+        PriorityQueue<Integer> minHeap = new PriorityQueue<>(k);
+        for (int num : nums) {
+            if (minHeap.size() < k) {
+                minHeap.offer(num);
+            } else if (num > minHeap.peek()) {
+                minHeap.poll();
+                minHeap.offer(num);
+            }
+        }
+        List<Integer> result = new ArrayList<>(minHeap);
+        Collections.sort(result, Collections.reverseOrder());
+        return result;
+    }
+}
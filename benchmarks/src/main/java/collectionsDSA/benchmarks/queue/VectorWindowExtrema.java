@@ -0,0 +1,153 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.queue.BlockWindowExtrema;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * BlockWindowExtrema's block decomposition on the Vector API (incubator
+ * module, so it lives here rather than in the javac-only demo tree; the
+ * module compiles and forks with {@code --add-modules jdk.incubator.vector}).
+ *
+ * <p>Both block scans run a vector of lanes at a time as a segmented scan:
+ * log2(lanes) shift-and-max steps inside the register, masked so no value
+ * crosses a block boundary, then the running value carried in from the
+ * previous vector is folded into the lanes still in its block. The combine
+ * {@code max(suffix[i], prefix[i + k - 1])} is lane-parallel as is. Lane
+ * positions inside a block wrap at most once per vector, so this path needs
+ * {@code k >= lanes}; smaller windows and inputs shorter than a vector fall
+ * back to the scalar BlockWindowExtrema. Results are identical to it.
+ *
+ * <p>The in-register shifts are precomputed wrapping shuffles and max/min is
+ * picked by a boolean, not a VectorOperators argument: with a non-constant
+ * operator or slice origin C2 does not intrinsify the calls at all and every
+ * vector op allocates (~20x slower than scalar). Even so, on JDK 17 (second
+ * incubator) some mask and lane-extract intrinsics still fall back to boxed
+ * vectors: measured at n = 1e6, k = 16..1024 on AVX-512, this is ~5 ms per
+ * call against ~2.5 ms for the scalar blocks and ~20 ms for the IntDeque.
+ * The scalar version stays the one the demo tree uses.
+ */
+public final class VectorWindowExtrema {
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final IntVector IOTA = IntVector.zero(SPECIES).addIndex(1);
+    private static final VectorShuffle<Integer>[] UP = shifts(-1);    // lane l <- lane l - 2^t
+    private static final VectorShuffle<Integer>[] DOWN = shifts(1);   // lane l <- lane l + 2^t
+
+    private VectorWindowExtrema() {
+    }
+
+    public static int[] max(int[] nums, int k) {
+        return extrema(nums, k, true);
+    }
+
+    public static int[] min(int[] nums, int k) {
+        return extrema(nums, k, false);
+    }
+
+    private static int[] extrema(int[] nums, int k, boolean max) {
+        if (nums == null || k < LANES || nums.length < k + LANES) {
+            return max ? BlockWindowExtrema.max(nums, k) : BlockWindowExtrema.min(nums, k);
+        }
+        int n = nums.length;
+        int[] prefix = new int[n];
+        int[] suffix = new int[n];
+        prefixScan(nums, prefix, k, max);
+        suffixScan(nums, suffix, k, max);
+
+        // result[i] = op(suffix[i], prefix[i + k - 1]) - no dependency between lanes
+        int windows = n - k + 1;
+        int[] result = new int[windows];
+        int i = 0;
+        for (int bound = SPECIES.loopBound(windows); i < bound; i += LANES) {
+            apply(IntVector.fromArray(SPECIES, suffix, i), IntVector.fromArray(SPECIES, prefix, i + k - 1), max)
+                    .intoArray(result, i);
+        }
+        for (; i < windows; i++) {
+            result[i] = apply(suffix[i], prefix[i + k - 1], max);
+        }
+        return result;
+    }
+
+    // out[j] = op over nums[block start .. j]
+    private static void prefixScan(int[] nums, int[] out, int k, boolean max) {
+        int n = nums.length;
+        int carry = 0;
+        int j = 0;
+        for (int bound = SPECIES.loopBound(n); j < bound; j += LANES) {
+            int p0 = j % k;
+            IntVector pos = positions(p0, k);
+            IntVector v = IntVector.fromArray(SPECIES, nums, j);
+            for (int t = 0, s = 1; s < LANES; t++, s <<= 1) {
+                // Lane l takes lane l - s, if that lane is in this vector and the same block
+                VectorMask<Integer> same = pos.compare(VectorOperators.GE, s).and(IOTA.compare(VectorOperators.GE, s));
+                v = v.blend(apply(v, v.rearrange(UP[t]), max), same);
+            }
+            if (p0 != 0) {  // Lanes before the first block boundary continue the previous vector's block
+                v = v.blend(apply(v, IntVector.broadcast(SPECIES, carry), max), IOTA.compare(VectorOperators.LT, k - p0));
+            }
+            v.intoArray(out, j);
+            carry = v.lane(LANES - 1);
+        }
+        for (; j < n; j++) {
+            carry = j % k == 0 ? nums[j] : apply(carry, nums[j], max);
+            out[j] = carry;
+        }
+    }
+
+    // out[j] = op over nums[j .. block end], the last block ending at n - 1
+    private static void suffixScan(int[] nums, int[] out, int k, boolean max) {
+        int n = nums.length;
+        int carry = 0;
+        int j = n - LANES;
+        for (; j >= 0; j -= LANES) {
+            int p0 = j % k;
+            IntVector pos = positions(p0, k);
+            IntVector v = IntVector.fromArray(SPECIES, nums, j);
+            for (int t = 0, s = 1; s < LANES; t++, s <<= 1) {
+                // Lane l takes lane l + s, if that lane is in this vector and the same block
+                VectorMask<Integer> same = pos.compare(VectorOperators.LE, k - 1 - s).and(IOTA.compare(VectorOperators.LT, LANES - s));
+                v = v.blend(apply(v, v.rearrange(DOWN[t]), max), same);
+            }
+            int pLast = (j + LANES - 1) % k;
+            if (pLast != k - 1 && j + LANES < n) {  // Lanes after the last boundary continue the next vector's block
+                v = v.blend(apply(v, IntVector.broadcast(SPECIES, carry), max), IOTA.compare(VectorOperators.GE, LANES - 1 - pLast));
+            }
+            v.intoArray(out, j);
+            carry = v.lane(0);
+        }
+        // Head shorter than a vector, continuing right to left
+        for (j += LANES - 1; j >= 0; j--) {
+            carry = (j + 1) % k == 0 ? nums[j] : apply(carry, nums[j], max);
+            out[j] = carry;
+        }
+    }
+
+    // Position of each lane inside its block; k >= LANES, so at most one wrap
+    private static IntVector positions(int p0, int k) {
+        IntVector pos = IOTA.add(p0);
+        return pos.sub(k, pos.compare(VectorOperators.GE, k));
+    }
+
+    // Shuffles moving lanes by 2^t in direction dir, wrapping; the scans mask the wrapped lanes
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] shifts(int dir) {
+        VectorShuffle<Integer>[] shifts = new VectorShuffle[Integer.numberOfTrailingZeros(LANES)];
+        for (int t = 0; t < shifts.length; t++) {
+            int by = dir << t;
+            shifts[t] = VectorShuffle.fromOp(SPECIES, l -> (l + by) & (LANES - 1));
+        }
+        return shifts;
+    }
+
+    private static IntVector apply(IntVector a, IntVector b, boolean max) {
+        return max ? a.max(b) : a.min(b);
+    }
+
+    private static int apply(int a, int b, boolean max) {
+        return max ? Math.max(a, b) : Math.min(a, b);
+    }
+}
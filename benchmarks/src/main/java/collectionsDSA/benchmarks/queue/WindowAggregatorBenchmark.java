@@ -0,0 +1,80 @@
+package collectionsDSA.benchmarks.queue;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import collectionsDSA.queue.SlidingWindowAggregator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per pushed value of SlidingWindowAggregator (max/min/sum on every
+ * window) against rescanning the window for each value, the obvious way to
+ * serve the same live feed. Reported per value; with {@code -prof gc} the
+ * aggregator shows no allocation once its rings have grown to the window.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class WindowAggregatorBenchmark {
+
+    private static final int VALUES = 1 << 16;
+
+    @Param({"16", "1024"})
+    int window;
+
+    @Param({"UNIFORM", "DESCENDING"})
+    KeyDistribution distribution;
+
+    int[] values;
+    SlidingWindowAggregator aggregator;
+    long[] ring;
+    int next;
+    Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        values = distribution.keys(VALUES);
+        aggregator = SlidingWindowAggregator.countWindow(window).onWindow(w -> {
+            this.blackhole.consume(w.max());
+            this.blackhole.consume(w.min());
+            this.blackhole.consume(w.sum());
+        });
+        ring = new long[window];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void aggregator() {
+        SlidingWindowAggregator a = aggregator;
+        for (int value : values) {
+            a.accept(value);
+        }
+    }
+
+    // Keep the last 'window' values, scan them after every push - O(window) per value
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void rescan(Blackhole bh) {
+        long[] r = ring;
+        int k = r.length;
+        int i = next;
+        for (int value : values) {
+            r[i++ % k] = value;
+            long max = Long.MIN_VALUE, min = Long.MAX_VALUE, sum = 0;
+            for (long v : r) {
+                max = Math.max(max, v);
+                min = Math.min(min, v);
+                sum += v;
+            }
+            bh.consume(max);
+            bh.consume(min);
+            bh.consume(sum);
+        }
+        next = i % k;
+    }
+}
@@ -0,0 +1,72 @@
+package collectionsDSA.benchmarks.set;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the "PERFORMANCE DEMONSTRATION" section in HashSetDSA:
+ * add / contains / remove of n keys, swept over size and key distribution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HashSetBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    Integer[] keys;
+    HashSet<Integer> populated;  // read-only once built, safe to share across threads
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.boxed(distribution.keys(size));
+        populated = new HashSet<>(Arrays.asList(keys));
+    }
+
+    @Benchmark
+    public HashSet<Integer> add() {
+        HashSet<Integer> set = new HashSet<>();
+        for (Integer key : keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public void contains(Blackhole bh) {
+        for (Integer key : keys) {
+            bh.consume(populated.contains(key));
+        }
+    }
+
+    @Benchmark
+    public HashSet<Integer> remove(RemoveState state) {
+        HashSet<Integer> set = state.set;
+        for (Integer key : keys) {
+            set.remove(key);
+        }
+        return set;
+    }
+
+    // Each thread removes from its own fresh copy; the copy is not timed
+    @State(Scope.Thread)
+    public static class RemoveState {
+        HashSet<Integer> set;
+
+        @Setup(Level.Invocation)
+        public void refill(HashSetBenchmark benchmark) {
+            set = new HashSet<>(benchmark.populated);
+        }
+    }
+}
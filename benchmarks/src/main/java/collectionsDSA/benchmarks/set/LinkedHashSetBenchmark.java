@@ -0,0 +1,72 @@
+package collectionsDSA.benchmarks.set;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the "PERFORMANCE COMPARISON" section in LinkedHashSetDSA:
+ * HashSet vs LinkedHashSet for building and iterating a set of n keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class LinkedHashSetBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    Integer[] keys;
+    HashSet<Integer> hashSet;
+    LinkedHashSet<Integer> linkedHashSet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.boxed(distribution.keys(size));
+        hashSet = new HashSet<>(Arrays.asList(keys));
+        linkedHashSet = new LinkedHashSet<>(Arrays.asList(keys));
+    }
+
+    @Benchmark
+    public HashSet<Integer> hashSetAdd() {
+        HashSet<Integer> set = new HashSet<>();
+        for (Integer key : keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public LinkedHashSet<Integer> linkedHashSetAdd() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+        for (Integer key : keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    // HashSet iterates the whole bucket array, so cost tracks capacity, not size
+    @Benchmark
+    public void hashSetIterate(Blackhole bh) {
+        for (Integer key : hashSet) {
+            bh.consume(key);
+        }
+    }
+
+    // LinkedHashSet walks its before/after list, so cost tracks size only
+    @Benchmark
+    public void linkedHashSetIterate(Blackhole bh) {
+        for (Integer key : linkedHashSet) {
+            bh.consume(key);
+        }
+    }
+}
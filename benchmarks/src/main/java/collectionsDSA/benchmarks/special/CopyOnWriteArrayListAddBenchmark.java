@@ -0,0 +1,43 @@
+package collectionsDSA.benchmarks.special;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append half of the CopyOnWriteArrayListDSA demo. Building a list by n
+ * single add() calls copies the array every time, which is O(n^2) in total,
+ * so the size sweep stops at 1e5; 1e7 would copy ~5e13 references.
+ * Pass -p size=... to push it further on purpose.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CopyOnWriteArrayListAddBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Benchmark
+    public CopyOnWriteArrayList<Integer> copyOnWriteAdd() {
+        CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);  // O(n) - copies the backing array
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListAdd() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);  // O(1) amortized
+        }
+        return list;
+    }
+}
@@ -0,0 +1,71 @@
+package collectionsDSA.benchmarks.special;
+
+import collectionsDSA.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of the read half of the "PERFORMANCE DEMONSTRATION" in
+ * CopyOnWriteArrayListDSA. Reads are compared against a synchronizedList
+ * so that running with more threads shows what lock-free reads buy.
+ * Appends are O(n) each and live in {@link CopyOnWriteArrayListAddBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CopyOnWriteArrayListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    int[] indexes;
+    CopyOnWriteArrayList<Integer> cowList;
+    List<Integer> synchronizedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        cowList = new CopyOnWriteArrayList<>(values);
+        synchronizedList = Collections.synchronizedList(new ArrayList<>(values));
+
+        indexes = distribution.keys(size);
+        for (int i = 0; i < size; i++) {
+            indexes[i] = Math.floorMod(indexes[i], size);
+        }
+    }
+
+    @Benchmark
+    public void copyOnWriteGet(Blackhole bh) {
+        for (int index : indexes) {
+            bh.consume(cowList.get(index));
+        }
+    }
+
+    @Benchmark
+    public void synchronizedListGet(Blackhole bh) {
+        for (int index : indexes) {
+            bh.consume(synchronizedList.get(index));
+        }
+    }
+
+    // Iterates a snapshot - no lock and no ConcurrentModificationException
+    @Benchmark
+    public void copyOnWriteIterate(Blackhole bh) {
+        for (Integer value : cowList) {
+            bh.consume(value);
+        }
+    }
+}
@@ -60,6 +60,14 @@ public class ArrayListDSA {
         ArrayList<Integer> noDuplicates = removeDuplicates(new ArrayList<>(withDuplicates));
         System.out.println("After removing duplicates: " + noDuplicates);
         
+        // Same problems on the primitive IntArrayList - no Integer boxing at all
+        IntArrayList primitive = IntArrayList.of(1, 2, 3, 2, 4, 1);
+        System.out.println("Primitive duplicates: " + findDuplicates(primitive));
+        System.out.println("Primitive after removing duplicates: " + removeDuplicates(primitive));
+        
+        // Parallel version - same list, same order; only forks for large inputs
+        System.out.println("Parallel duplicates: " + findDuplicatesParallel(withDuplicates));
+        
         // Rotate array - O(n)
         ArrayList<Integer> toRotate = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
         System.out.println("Before rotation: " + toRotate);
@@ -85,6 +93,46 @@ public class ArrayListDSA {
         LinkedHashSet<Integer> set = new LinkedHashSet<>(list);
         return new ArrayList<>(set);
     }
+    
+    // Find duplicates without boxing - O(n) time, O(n) space
+    // Same output as the ArrayList<Integer> version: every repeat, in scan order
+    public static IntArrayList findDuplicates(IntArrayList list) {
+        IntHashSet seen = new IntHashSet();
+        IntArrayList duplicates = new IntArrayList();
+        
+        for (int i = 0, n = list.size(); i < n; i++) {
+            int num = list.get(i);
+            if (!seen.add(num)) {  // add returns false if element already exists
+                duplicates.add(num);
+            }
+        }
+        return duplicates;
+    }
+    
+    // Find duplicates on the common ForkJoinPool - O(n/p) time, O(n) space
+    // Identical result to findDuplicates, including order (see ParallelDuplicates)
+    public static List<Integer> findDuplicatesParallel(ArrayList<Integer> list) {
+        return ParallelDuplicates.findDuplicates(list);
+    }
+    
+    public static IntArrayList findDuplicatesParallel(IntArrayList list) {
+        return ParallelDuplicates.findDuplicates(list);
+    }
+    
+    // Remove duplicates without boxing - O(n) time, O(n) space
+    // Keeps the first occurrence of each value, like LinkedHashSet
+    public static IntArrayList removeDuplicates(IntArrayList list) {
+        IntHashSet seen = new IntHashSet();
+        IntArrayList unique = new IntArrayList();
+        
+        for (int i = 0, n = list.size(); i < n; i++) {
+            int num = list.get(i);
+            if (seen.add(num)) {
+                unique.add(num);
+            }
+        }
+        return unique;
+    }
 }
 
 /*
@@ -152,6 +200,8 @@ public class ArrayListDSA {
  ============================================================================
  
  1. Find duplicates in array - O(n) time using HashSet
+    (IntArrayList + IntHashSet for large int inputs - ~4 bytes/element vs ~20+)
+    (hash-partitioned fork-join for multi-core - ParallelDuplicates)
  2. Remove duplicates from sorted array - Two-pointer technique
  3. Rotate array by k positions - O(n) time, O(1) space
  4. Find missing number in array - XOR or sum approach
@@ -0,0 +1,219 @@
+package collectionsDSA.list;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Streaming version of StackDSA.isBalanced for large inputs (multi-MB JSON,
+// config files). Same rules - (), [] and {} must nest, everything else is
+// ignored - but:
+// - no toCharArray() copy: reads CharSequence/Reader/ByteBuffer in place
+// - the stack is a byte[] of bracket kinds, not Stack<Character>, so nothing
+//   is boxed and nothing is synchronized; it only grows with nesting depth
+// - returns the offset of the first mismatch instead of just false
+// - input can arrive in chunks: feed(...) any number of times, then finish()
+//
+// A validator is reusable (validate() resets it) and allocation-free per
+// character. Not thread-safe - use one per thread.
+//
+// ByteBuffer input is read as bytes: fine for ASCII and UTF-8, since no
+// multi-byte UTF-8 sequence contains a bracket byte. Offsets are then byte
+// offsets.
+public final class BracketValidator {
+    public static final long BALANCED = -1;
+
+    // Character class table for '\0'..'}': an opener's kind, CLOSE + kind for
+    // a closer, OTHER for everything else (chars above '}' are never brackets)
+    private static final byte PAREN = 0;
+    private static final byte SQUARE = 1;
+    private static final byte CURLY = 2;
+    private static final byte CLOSE = 3;
+    private static final byte OTHER = 6;
+    private static final byte[] CLASS = new byte['}' + 1];
+
+    static {
+        Arrays.fill(CLASS, OTHER);
+        CLASS['('] = PAREN;
+        CLASS['['] = SQUARE;
+        CLASS['{'] = CURLY;
+        CLASS[')'] = CLOSE + PAREN;
+        CLASS[']'] = CLOSE + SQUARE;
+        CLASS['}'] = CLOSE + CURLY;
+    }
+
+    private static final int READ_BUFFER = 8192;
+
+    private byte[] stack;
+    private int depth;
+    private long position;      // Characters consumed since reset()
+    private long mismatchAt = BALANCED;
+    private char[] readBuffer;  // Lazily created for Reader input
+
+    public BracketValidator() {
+        this(64);
+    }
+
+    public BracketValidator(int initialDepth) {
+        this.stack = new byte[Math.max(1, initialDepth)];
+    }
+
+    // One-shot check; BALANCED (-1) or the offset of the first mismatch
+    public static long firstMismatch(CharSequence input) {
+        return new BracketValidator().validate(input);
+    }
+
+    public long validate(CharSequence input) {
+        reset();
+        feed(input, 0, input.length());
+        return finish();
+    }
+
+    public long validate(Reader reader) throws IOException {
+        reset();
+        if (readBuffer == null) {
+            readBuffer = new char[READ_BUFFER];
+        }
+        int n;
+        while ((n = reader.read(readBuffer, 0, READ_BUFFER)) != -1) {
+            if (!feed(readBuffer, 0, n)) {
+                break;  // Answer is known; don't read the rest of the stream
+            }
+        }
+        return finish();
+    }
+
+    // Reads position..limit without moving the buffer's position
+    public long validate(ByteBuffer input) {
+        reset();
+        feed(input.duplicate());
+        return finish();
+    }
+
+    public void reset() {
+        depth = 0;
+        position = 0;
+        mismatchAt = BALANCED;
+    }
+
+    // Streaming input - returns false once a mismatch has been found.
+    // The loops keep depth and the stack in locals; fields are written back
+    // once per chunk (or on growth/mismatch)
+    public boolean feed(CharSequence chunk, int from, int to) {
+        if (mismatchAt != BALANCED) return false;
+        byte[] stack = this.stack;
+        int depth = this.depth;
+        for (int i = from; i < to; i++) {
+            char ch = chunk.charAt(i);
+            if (ch > '}') continue;
+            int kind = CLASS[ch];
+            if (kind == OTHER) continue;
+            if (kind < CLOSE) {
+                if (depth == stack.length) stack = grow();
+                stack[depth++] = (byte) kind;
+            } else if (depth == 0 || stack[--depth] != kind - CLOSE) {
+                return mismatch(position + (i - from));
+            }
+        }
+        this.depth = depth;
+        position += to - from;
+        return true;
+    }
+
+    public boolean feed(char[] chunk, int offset, int length) {
+        if (mismatchAt != BALANCED) return false;
+        byte[] stack = this.stack;
+        int depth = this.depth;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char ch = chunk[i];
+            if (ch > '}') continue;
+            int kind = CLASS[ch];
+            if (kind == OTHER) continue;
+            if (kind < CLOSE) {
+                if (depth == stack.length) stack = grow();
+                stack[depth++] = (byte) kind;
+            } else if (depth == 0 || stack[--depth] != kind - CLOSE) {
+                return mismatch(position + (i - offset));
+            }
+        }
+        this.depth = depth;
+        position += length;
+        return true;
+    }
+
+    // Consumes the buffer up to its limit (or up to and including the mismatch)
+    public boolean feed(ByteBuffer chunk) {
+        if (mismatchAt != BALANCED) return false;
+        byte[] stack = this.stack;
+        int depth = this.depth;
+        int from = chunk.position();
+        int limit = chunk.limit();
+        for (int i = from; i < limit; i++) {
+            int b = chunk.get(i) & 0xFF;
+            if (b > '}') continue;
+            int kind = CLASS[b];
+            if (kind == OTHER) continue;
+            if (kind < CLOSE) {
+                if (depth == stack.length) stack = grow();
+                stack[depth++] = (byte) kind;
+            } else if (depth == 0 || stack[--depth] != kind - CLOSE) {
+                chunk.position(i + 1);
+                return mismatch(position + (i - from));
+            }
+        }
+        chunk.position(limit);
+        this.depth = depth;
+        position += limit - from;
+        return true;
+    }
+
+    // End of input: an open bracket left over is a mismatch at the end offset
+    public long finish() {
+        if (mismatchAt == BALANCED && depth > 0) {
+            mismatchAt = position;
+        }
+        return mismatchAt;
+    }
+
+    // Current nesting depth
+    public int depth() {
+        return depth;
+    }
+
+    // Characters (or bytes) consumed since reset()
+    public long position() {
+        return position;
+    }
+
+    private boolean mismatch(long offset) {
+        mismatchAt = offset;
+        position = offset + 1;
+        return false;
+    }
+
+    // Called with the local depth == stack.length; the loop continues on the result
+    private byte[] grow() {
+        stack = Arrays.copyOf(stack, stack.length << 1);
+        return stack;
+    }
+}
+
+/*
+ ============================================================================
+                    BRACKETVALIDATOR VS STACKDSA.ISBALANCED
+ ============================================================================
+
+ | Aspect               | isBalanced(String)          | BracketValidator
+ |----------------------|-----------------------------|----------------------------
+ | Input                | String only                 | CharSequence, Reader, ByteBuffer, chunks
+ | Upfront copy         | toCharArray() - 2 bytes/char| none
+ | Stack                | Stack<Character>, synchronized | byte[], grows by doubling
+ | Per-bracket cost     | Character box + lock        | one array store/load
+ | Memory               | O(n) copy + O(depth) boxes  | O(depth) bytes
+ | Result               | true / false                | -1 or offset of first mismatch
+
+ Offsets: an unexpected or wrong closer reports its own offset; brackets
+ still open at the end report the input length (where the closer is missing).
+
+ ============================================================================
+*/
@@ -0,0 +1,199 @@
+package collectionsDSA.list;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+import static collectionsDSA.list.ExpressionCompiler.*;
+
+// Output of ExpressionCompiler: postfix bytecode plus a constant pool.
+// Immutable and thread-safe; evaluation runs on a primitive stack that the
+// caller owns, so the hot path allocates nothing:
+//
+//   long[] stack = new long[expr.stackSize()];    // once per thread
+//   for (long[] row : rows) total += expr.evaluate(row, stack);
+//
+// Two arithmetic modes:
+// - evaluate(long[], long[]): 64-bit integer math (wraps on overflow, / and %
+//   truncate like Java). Only for expressions with integer literals.
+// - evaluate(double[], double[]): IEEE double math; integer literals are
+//   widened
+public final class CompiledExpression {
+    private final String source;
+    private final String[] variables;
+    private final int[] code;
+    private final long[] longConstants;
+    private final double[] doubleConstants;
+    private final LongBinaryOperator[] longOps;
+    private final DoubleBinaryOperator[] doubleOps;
+    private final int stackSize;
+    private final boolean longCapable;
+
+    CompiledExpression(String source, String[] variables, int[] code, long[] longConstants,
+                       double[] doubleConstants, LongBinaryOperator[] longOps,
+                       DoubleBinaryOperator[] doubleOps, int stackSize, boolean longCapable) {
+        this.source = source;
+        this.variables = variables;
+        this.code = code;
+        this.longConstants = longConstants;
+        this.doubleConstants = doubleConstants;
+        this.longOps = longOps;
+        this.doubleOps = doubleOps;
+        this.stackSize = stackSize;
+        this.longCapable = longCapable;
+    }
+
+    // Minimum length of the stack arrays passed to evaluate()
+    public int stackSize() {
+        return stackSize;
+    }
+
+    // Variable names, in the order evaluate() expects their values
+    public String[] variables() {
+        return variables.clone();
+    }
+
+    // False if the expression has a floating-point literal or an operator
+    // registered without a long function
+    public boolean supportsLong() {
+        return longCapable;
+    }
+
+    // Integer evaluation - O(instructions), allocation-free
+    public long evaluate(long[] values, long[] stack) {
+        if (!longCapable) {
+            throw new IllegalStateException("Expression needs double arithmetic: " + source);
+        }
+        checkArguments(values.length, stack.length);
+        int sp = 0;
+        for (int instruction : code) {
+            int operand = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case PUSH_CONST: stack[sp++] = longConstants[operand]; break;
+                case PUSH_VAR:   stack[sp++] = values[operand]; break;
+                case NEG:        stack[sp - 1] = -stack[sp - 1]; break;
+                case ADD:  sp--; stack[sp - 1] += stack[sp]; break;
+                case SUB:  sp--; stack[sp - 1] -= stack[sp]; break;
+                case MUL:  sp--; stack[sp - 1] *= stack[sp]; break;
+                case DIV:  sp--; stack[sp - 1] /= stack[sp]; break;
+                case MOD:  sp--; stack[sp - 1] %= stack[sp]; break;
+                case POW:  sp--; stack[sp - 1] = pow(stack[sp - 1], stack[sp]); break;
+                default:   sp--; stack[sp - 1] = longOps[operand].applyAsLong(stack[sp - 1], stack[sp]);
+            }
+        }
+        return stack[0];
+    }
+
+    // Floating-point evaluation - O(instructions), allocation-free
+    public double evaluate(double[] values, double[] stack) {
+        checkArguments(values.length, stack.length);
+        int sp = 0;
+        for (int instruction : code) {
+            int operand = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case PUSH_CONST: stack[sp++] = doubleConstants[operand]; break;
+                case PUSH_VAR:   stack[sp++] = values[operand]; break;
+                case NEG:        stack[sp - 1] = -stack[sp - 1]; break;
+                case ADD:  sp--; stack[sp - 1] += stack[sp]; break;
+                case SUB:  sp--; stack[sp - 1] -= stack[sp]; break;
+                case MUL:  sp--; stack[sp - 1] *= stack[sp]; break;
+                case DIV:  sp--; stack[sp - 1] /= stack[sp]; break;
+                case MOD:  sp--; stack[sp - 1] %= stack[sp]; break;
+                case POW:  sp--; stack[sp - 1] = Math.pow(stack[sp - 1], stack[sp]); break;
+                default:
+                    DoubleBinaryOperator op = doubleOps[operand];
+                    if (op == null) {
+                        throw new IllegalStateException("Operator has no double function: " + source);
+                    }
+                    sp--;
+                    stack[sp - 1] = op.applyAsDouble(stack[sp - 1], stack[sp]);
+            }
+        }
+        return stack[0];
+    }
+
+    // One-off convenience - allocates a stack per call
+    public long evaluateLong(long... values) {
+        return evaluate(values, new long[stackSize]);
+    }
+
+    public double evaluateDouble(double... values) {
+        return evaluate(values, new double[stackSize]);
+    }
+
+    // Exponentiation by squaring; wraps on overflow like the other long operators
+    static long pow(long base, long exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Negative exponent in integer arithmetic: " + exponent);
+        }
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) result *= base;
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private void checkArguments(int valueCount, int stackLength) {
+        if (valueCount != variables.length) {
+            throw new IllegalArgumentException("Expected " + variables.length + " values "
+                    + Arrays.toString(variables) + ", got " + valueCount);
+        }
+        if (stackLength < stackSize) {
+            throw new IllegalArgumentException("Stack too small: " + stackLength + " < " + stackSize);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    // Postfix form, e.g. "a 12 + b *" - for debugging
+    public String toPostfix() {
+        StringBuilder sb = new StringBuilder();
+        for (int instruction : code) {
+            if (sb.length() > 0) sb.append(' ');
+            int operand = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case PUSH_CONST:
+                    sb.append(longCapable || doubleConstants[operand] == longConstants[operand]
+                            ? Long.toString(longConstants[operand]) : Double.toString(doubleConstants[operand]));
+                    break;
+                case PUSH_VAR: sb.append(variables[operand]); break;
+                case NEG: sb.append("neg"); break;
+                case ADD: sb.append('+'); break;
+                case SUB: sb.append('-'); break;
+                case MUL: sb.append('*'); break;
+                case DIV: sb.append('/'); break;
+                case MOD: sb.append('%'); break;
+                case POW: sb.append('^'); break;
+                default: sb.append("op#").append(operand);
+            }
+        }
+        return sb.toString();
+    }
+}
+
+/*
+ ============================================================================
+              COMPILEDEXPRESSION VS STACKDSA.EVALUATEPOSTFIX (ORIGINAL)
+ ============================================================================
+
+ | Aspect              | evaluatePostfix (original) | ExpressionCompiler / CompiledExpression
+ |---------------------|----------------------------|----------------------------------------
+ | Operands            | single digit (ch - '0')    | multi-digit long, double (1.5e3), variables
+ | Input form          | postfix only               | infix (shunting-yard) or postfix
+ | Operators           | + - * /                    | + - * / % ^ unary -, plus registered ones
+ | Parse cost          | every call                 | once, at compile time
+ | Evaluation stack    | Stack<Integer> (boxed,     | caller's long[] / double[], sized by
+ |                     | synchronized)              | stackSize()
+ | Errors              | EmptyStackException        | IllegalArgumentException with offset,
+ |                     |                            | reported at compile time
+
+ Compile: O(n) in the source length. Evaluate: O(instructions), zero
+ allocation when the caller reuses its stack array.
+
+ ============================================================================
+*/
@@ -0,0 +1,399 @@
+package collectionsDSA.list;
+
+import java.util.*;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+// Compiles arithmetic expressions once into a CompiledExpression that can be
+// evaluated many times with different variable values. Generalizes the
+// one-shot, single-digit StackDSA.evaluatePostfix, which keeps its int
+// behaviour; StackDSA.evaluatePostfixLong / evaluatePostfixDouble use this.
+//
+//   CompiledExpression f = new ExpressionCompiler().compile("price * (1 + rate) ^ years - 2.5",
+//                                                           "price", "rate", "years");
+//   double[] stack = new double[f.stackSize()];
+//   double v = f.evaluate(new double[] {100, 0.05, 10}, stack);   // no allocation
+//
+// Pipeline: Tokenizer (multi-digit long / double literals, identifiers,
+// operators) -> shunting-yard (infix to postfix) -> int[] bytecode.
+// The compiler also tracks stack depth, so malformed input is rejected here
+// and not during evaluation.
+//
+// Built-in operators, by precedence (low to high):
+//   + -      left
+//   * / %    left
+//   unary -  right   (-2 ^ 2 = -4)
+//   ^        right   (2 ^ 3 ^ 2 = 2 ^ 9)
+// More binary operators can be registered with operator(...).
+public class ExpressionCompiler {
+    // Opcodes - low 8 bits of an instruction, operand in the upper 24
+    static final int PUSH_CONST = 0;
+    static final int PUSH_VAR = 1;
+    static final int NEG = 2;
+    static final int ADD = 3;
+    static final int SUB = 4;
+    static final int MUL = 5;
+    static final int DIV = 6;
+    static final int MOD = 7;
+    static final int POW = 8;
+    static final int CUSTOM = 9;
+
+    private static final int UNARY_PRECEDENCE = 30;
+    // Markers on the shunting-yard operator stack
+    private static final Object PAREN = new Object();
+    private static final Object UNARY = new Object();
+
+    private final Operator[] operators = new Operator[128];
+    private final List<Operator> custom = new ArrayList<>();
+
+    public ExpressionCompiler() {
+        register(new Operator('+', 10, false, ADD, -1, Long::sum, Double::sum));
+        register(new Operator('-', 10, false, SUB, -1, (a, b) -> a - b, (a, b) -> a - b));
+        register(new Operator('*', 20, false, MUL, -1, (a, b) -> a * b, (a, b) -> a * b));
+        register(new Operator('/', 20, false, DIV, -1, (a, b) -> a / b, (a, b) -> a / b));
+        register(new Operator('%', 20, false, MOD, -1, (a, b) -> a % b, (a, b) -> a % b));
+        register(new Operator('^', 40, true, POW, -1, CompiledExpression::pow, Math::pow));
+    }
+
+    // Adds (or overrides) a binary operator. Precedence is relative to the
+    // built-ins: 10 for + -, 20 for * / %, 30 for unary minus, 40 for ^.
+    // Either function may be null if the operator only makes sense for one type
+    public ExpressionCompiler operator(char symbol, int precedence, boolean rightAssociative,
+                                       LongBinaryOperator longOp, DoubleBinaryOperator doubleOp) {
+        if (symbol >= operators.length || Character.isLetterOrDigit(symbol) || Character.isWhitespace(symbol)
+                || symbol == '(' || symbol == ')' || symbol == '.' || symbol == '_') {
+            throw new IllegalArgumentException("Invalid operator symbol: '" + symbol + "'");
+        }
+        if (longOp == null && doubleOp == null) {
+            throw new IllegalArgumentException("Operator '" + symbol + "' needs a long or double function");
+        }
+        Operator op = new Operator(symbol, precedence, rightAssociative, CUSTOM, custom.size(), longOp, doubleOp);
+        custom.add(op);
+        register(op);
+        return this;
+    }
+
+    // Infix, e.g. "(a + 12) * b - 3.5e2". variables name the evaluate() slots in order
+    public CompiledExpression compile(String infix, String... variables) {
+        Map<String, Integer> slots = slots(variables);
+        Tokenizer tokens = new Tokenizer(infix, false);
+        Program program = new Program(infix, variables);
+        // Operator stack: Operator, or the PAREN / UNARY markers
+        Deque<Object> pending = new ArrayDeque<>();
+        boolean expectOperand = true;
+
+        while (tokens.next()) {
+            switch (tokens.kind) {
+                case Tokenizer.NUMBER:
+                case Tokenizer.IDENTIFIER:
+                    if (!expectOperand) throw error(infix, tokens.start, "operator expected");
+                    emitOperand(program, tokens, slots);
+                    expectOperand = false;
+                    break;
+                case Tokenizer.LEFT_PAREN:
+                    if (!expectOperand) throw error(infix, tokens.start, "operator expected before '('");
+                    pending.push(PAREN);
+                    break;
+                case Tokenizer.RIGHT_PAREN:
+                    if (expectOperand) throw error(infix, tokens.start, "operand expected before ')'");
+                    while (!pending.isEmpty() && pending.peek() != PAREN) {
+                        emitOperator(program, pending.pop(), infix, tokens.start);
+                    }
+                    if (pending.isEmpty()) throw error(infix, tokens.start, "unmatched ')'");
+                    pending.pop();
+                    break;
+                default:  // OPERATOR
+                    if (expectOperand) {
+                        if (tokens.symbol != '-') throw error(infix, tokens.start, "operand expected");
+                        pending.push(UNARY);  // Right-associative: never pops anything
+                        break;
+                    }
+                    Operator op = operatorAt(tokens, infix);
+                    while (!pending.isEmpty() && pending.peek() != PAREN
+                            && popsBefore(pending.peek(), op)) {
+                        emitOperator(program, pending.pop(), infix, tokens.start);
+                    }
+                    pending.push(op);
+                    expectOperand = true;
+            }
+        }
+        if (expectOperand) throw error(infix, infix.length(), "expression ends without an operand");
+        while (!pending.isEmpty()) {
+            Object top = pending.pop();
+            if (top == PAREN) throw error(infix, infix.length(), "unmatched '('");
+            emitOperator(program, top, infix, infix.length());
+        }
+        return program.build(custom);
+    }
+
+    // Postfix with whitespace-separated tokens, e.g. "12 3 + x *". An
+    // expression with operators but no whitespace is read one character per
+    // token - the single-digit format StackDSA.evaluatePostfix always
+    // accepted ("23+4*")
+    public CompiledExpression compilePostfix(String postfix, String... variables) {
+        Map<String, Integer> slots = slots(variables);
+        boolean singleChar = postfix.chars().noneMatch(Character::isWhitespace)
+                && postfix.chars().anyMatch(ch -> ch < operators.length && operators[ch] != null);
+        Tokenizer tokens = new Tokenizer(postfix, singleChar);
+        Program program = new Program(postfix, variables);
+        while (tokens.next()) {
+            switch (tokens.kind) {
+                case Tokenizer.NUMBER:
+                case Tokenizer.IDENTIFIER:
+                    emitOperand(program, tokens, slots);
+                    break;
+                case Tokenizer.OPERATOR:
+                    emitOperator(program, operatorAt(tokens, postfix), postfix, tokens.start);
+                    break;
+                default:
+                    throw error(postfix, tokens.start, "parentheses are not allowed in postfix");
+            }
+        }
+        if (program.depth != 1) {
+            throw error(postfix, postfix.length(), program.depth == 0 ? "empty expression"
+                    : (program.depth - 1) + " operand(s) left without an operator");
+        }
+        return program.build(custom);
+    }
+
+    // ---------------------------------------------------------------- compilation
+
+    private void register(Operator op) {
+        operators[op.symbol] = op;
+    }
+
+    private Operator operatorAt(Tokenizer tokens, String source) {
+        Operator op = tokens.symbol < operators.length ? operators[tokens.symbol] : null;
+        if (op == null) throw error(source, tokens.start, "unknown operator '" + tokens.symbol + "'");
+        return op;
+    }
+
+    // Shunting-yard rule: pop the stacked operator if it binds tighter, or
+    // equally tight and the incoming one is left-associative
+    private static boolean popsBefore(Object stacked, Operator incoming) {
+        int precedence = stacked == UNARY ? UNARY_PRECEDENCE : ((Operator) stacked).precedence;
+        return precedence > incoming.precedence
+                || (precedence == incoming.precedence && !incoming.rightAssociative);
+    }
+
+    private static void emitOperand(Program program, Tokenizer tokens, Map<String, Integer> slots) {
+        if (tokens.kind == Tokenizer.NUMBER) {
+            program.pushConstant(tokens.longValue, tokens.doubleValue, tokens.integral);
+        } else {
+            Integer slot = slots.get(tokens.text());
+            if (slot == null) throw error(program.source, tokens.start, "unknown variable '" + tokens.text() + "'");
+            program.emit(PUSH_VAR, slot, +1);
+        }
+    }
+
+    private static void emitOperator(Program program, Object op, String source, int position) {
+        if (op == UNARY) {
+            if (program.depth < 1) throw error(source, position, "'-' has no operand");
+            program.emit(NEG, 0, 0);
+            return;
+        }
+        Operator binary = (Operator) op;
+        if (program.depth < 2) throw error(source, position, "'" + binary.symbol + "' needs two operands");
+        program.emit(binary.opcode, Math.max(binary.customIndex, 0), -1);
+    }
+
+    private static Map<String, Integer> slots(String[] variables) {
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < variables.length; i++) {
+            if (slots.put(variables[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate variable: " + variables[i]);
+            }
+        }
+        return slots;
+    }
+
+    static IllegalArgumentException error(String source, int position, String message) {
+        return new IllegalArgumentException(message + " at offset " + position + " in \"" + source + "\"");
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    static final class Operator {
+        final char symbol;
+        final int precedence;
+        final boolean rightAssociative;
+        final int opcode;
+        final int customIndex;
+        final LongBinaryOperator longOp;
+        final DoubleBinaryOperator doubleOp;
+
+        Operator(char symbol, int precedence, boolean rightAssociative, int opcode, int customIndex,
+                 LongBinaryOperator longOp, DoubleBinaryOperator doubleOp) {
+            this.symbol = symbol;
+            this.precedence = precedence;
+            this.rightAssociative = rightAssociative;
+            this.opcode = opcode;
+            this.customIndex = customIndex;
+            this.longOp = longOp;
+            this.doubleOp = doubleOp;
+        }
+    }
+
+    // Growable bytecode + constant pool; tracks stack depth while emitting
+    static final class Program {
+        final String source;
+        final String[] variables;
+        int[] code = new int[16];
+        int length;
+        long[] longConstants = new long[4];
+        double[] doubleConstants = new double[4];
+        int constants;
+        boolean integral = true;
+        int depth;
+        int maxDepth;
+
+        Program(String source, String[] variables) {
+            this.source = source;
+            this.variables = variables.clone();
+        }
+
+        void pushConstant(long longValue, double doubleValue, boolean isIntegral) {
+            if (constants == longConstants.length) {
+                longConstants = Arrays.copyOf(longConstants, constants * 2);
+                doubleConstants = Arrays.copyOf(doubleConstants, constants * 2);
+            }
+            longConstants[constants] = longValue;
+            doubleConstants[constants] = doubleValue;
+            integral &= isIntegral;
+            emit(PUSH_CONST, constants++, +1);
+        }
+
+        void emit(int opcode, int operand, int stackEffect) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, length * 2);
+            }
+            code[length++] = (operand << 8) | opcode;
+            depth += stackEffect;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        CompiledExpression build(List<Operator> custom) {
+            LongBinaryOperator[] longOps = new LongBinaryOperator[custom.size()];
+            DoubleBinaryOperator[] doubleOps = new DoubleBinaryOperator[custom.size()];
+            boolean longCapable = integral;
+            for (int i = 0; i < length; i++) {
+                if ((code[i] & 0xFF) == CUSTOM) {
+                    Operator op = custom.get(code[i] >>> 8);
+                    longOps[op.customIndex] = op.longOp;
+                    doubleOps[op.customIndex] = op.doubleOp;
+                    longCapable &= op.longOp != null;
+                }
+            }
+            return new CompiledExpression(source, variables, Arrays.copyOf(code, length),
+                    Arrays.copyOf(longConstants, constants), Arrays.copyOf(doubleConstants, constants),
+                    longOps, doubleOps, maxDepth, longCapable);
+        }
+    }
+
+    // Splits source text into numbers, identifiers, operators and parentheses.
+    // Reuses its fields per token; only identifiers/doubles touch a substring
+    static final class Tokenizer {
+        static final int NUMBER = 0;
+        static final int IDENTIFIER = 1;
+        static final int OPERATOR = 2;
+        static final int LEFT_PAREN = 3;
+        static final int RIGHT_PAREN = 4;
+
+        private final String source;
+        private final boolean singleChar;
+        private int cursor;
+
+        int kind;
+        int start;
+        int end;
+        char symbol;
+        long longValue;
+        double doubleValue;
+        boolean integral;
+
+        Tokenizer(String source, boolean singleChar) {
+            this.source = source;
+            this.singleChar = singleChar;
+        }
+
+        boolean next() {
+            int n = source.length();
+            while (cursor < n && Character.isWhitespace(source.charAt(cursor))) {
+                cursor++;
+            }
+            if (cursor == n) {
+                return false;
+            }
+            start = cursor;
+            char ch = source.charAt(cursor);
+            if (isDigit(ch) || (ch == '.' && cursor + 1 < n && isDigit(source.charAt(cursor + 1)))) {
+                readNumber();
+            } else if (Character.isLetter(ch) || ch == '_') {
+                cursor++;
+                while (!singleChar && cursor < n
+                        && (Character.isLetterOrDigit(source.charAt(cursor)) || source.charAt(cursor) == '_')) {
+                    cursor++;
+                }
+                kind = IDENTIFIER;
+            } else if (ch == '(') {
+                cursor++;
+                kind = LEFT_PAREN;
+            } else if (ch == ')') {
+                cursor++;
+                kind = RIGHT_PAREN;
+            } else {
+                cursor++;
+                kind = OPERATOR;
+                symbol = ch;
+            }
+            end = cursor;
+            return true;
+        }
+
+        String text() {
+            return source.substring(start, end);
+        }
+
+        // digits ['.' digits] [('e'|'E') ['+'|'-'] digits]; integral if neither part is present
+        private void readNumber() {
+            int n = source.length();
+            long value = 0;
+            boolean overflow = false;
+            integral = true;
+            while (cursor < n && isDigit(source.charAt(cursor))) {
+                int digit = source.charAt(cursor++) - '0';
+                if (value > (Long.MAX_VALUE - digit) / 10) overflow = true;
+                value = value * 10 + digit;
+                if (singleChar) break;
+            }
+            if (!singleChar && cursor < n && source.charAt(cursor) == '.') {
+                integral = false;
+                cursor++;
+                while (cursor < n && isDigit(source.charAt(cursor))) cursor++;
+            }
+            if (!singleChar && cursor < n && (source.charAt(cursor) == 'e' || source.charAt(cursor) == 'E')) {
+                int mark = cursor++;
+                if (cursor < n && (source.charAt(cursor) == '+' || source.charAt(cursor) == '-')) cursor++;
+                if (cursor < n && isDigit(source.charAt(cursor))) {
+                    integral = false;
+                    while (cursor < n && isDigit(source.charAt(cursor))) cursor++;
+                } else {
+                    cursor = mark;  // Not an exponent - 'e' starts the next token
+                }
+            }
+            kind = NUMBER;
+            if (integral) {
+                if (overflow) throw error(source, start, "integer literal out of long range");
+                longValue = value;
+                doubleValue = value;
+            } else {
+                doubleValue = Double.parseDouble(source.substring(start, cursor));
+                longValue = (long) doubleValue;
+            }
+        }
+
+        private static boolean isDigit(char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package collectionsDSA.list;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+// Growable int list - same growth rules as ArrayList, but the backing store is
+// an int[] so every element costs 4 bytes instead of a reference + Integer object
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int[] EMPTY = new int[0];
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this.elements = EMPTY;
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    // Wraps a copy of the given values - O(n)
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    // Takes ownership of the array without copying - for bulk producers in this package
+    static IntArrayList wrap(int[] values) {
+        IntArrayList list = new IntArrayList();
+        list.elements = values;
+        list.size = values.length;
+        return list;
+    }
+
+    // Unboxes a List<Integer> once, e.g. to move off the ArrayList<Integer> path
+    public static IntArrayList from(Collection<Integer> values) {
+        IntArrayList list = new IntArrayList(values.size());
+        for (Integer value : values) {
+            list.elements[list.size++] = value;
+        }
+        return list;
+    }
+
+    // Add to end - O(1) amortized
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    // Insert at index - O(n), shifts elements right
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    // Bulk append - O(m)
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void addAll(IntArrayList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    // Direct access by index - O(1)
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    // Direct modification - O(1), returns previous value
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    // Remove by index - O(n), shifts elements left
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        int old = elements[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, moved);
+        }
+        size--;
+        return old;
+    }
+
+    // Linear search - O(n)
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Reset size - O(1), keeps the backing array for reuse
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    // Dual-pivot quicksort on the primitive array - O(n log n), no boxing
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    // Copy out - O(n)
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Backing array (valid up to size()) - for read-only bulk passes in this package
+    int[] buffer() {
+        return elements;
+    }
+
+    // Grow by 50% like ArrayList, or straight to minCapacity if that is larger
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required int list capacity too large: " + minCapacity);
+        }
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity == 0
+                ? Math.max(DEFAULT_CAPACITY, minCapacity)
+                : (int) Math.min(MAX_ARRAY_SIZE, Math.max(minCapacity, oldCapacity + (long) (oldCapacity >> 1)));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IntArrayList)) return false;
+        IntArrayList that = (IntArrayList) obj;
+        return Arrays.equals(elements, 0, size, that.elements, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
+
+/*
+ ============================================================================
+                    INTARRAYLIST VS ARRAYLIST<INTEGER>
+ ============================================================================
+
+ | Operation          | IntArrayList   | ArrayList<Integer> | Notes
+ |--------------------|----------------|--------------------|------
+ | add(value)         | O(1) amortized | O(1) amortized     | No Integer.valueOf on the primitive side
+ | get(index)         | O(1)           | O(1)               | No pointer chase to an Integer object
+ | add(index, value)  | O(n)           | O(n)               | Both shift with System.arraycopy
+ | removeAt(index)    | O(n)           | O(n)               |
+ | indexOf(value)     | O(n)           | O(n)               | == instead of equals()
+ | sort()             | O(n log n)     | O(n log n)         | Dual-pivot quicksort vs TimSort on objects
+
+ Memory per element (64-bit JVM, compressed oops):
+ - IntArrayList:       4 bytes
+ - ArrayList<Integer>: 4 byte reference + 16 byte Integer = ~20 bytes
+   (values -128..127 come from the Integer cache and only cost the reference)
+
+ ============================================================================
+*/
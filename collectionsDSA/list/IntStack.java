@@ -0,0 +1,116 @@
+package collectionsDSA.list;
+
+import java.util.*;
+
+// LIFO stack of primitive ints - the Stack<Integer> / ArrayDeque<Integer>
+// operations without boxing or synchronization. Backing int[] grows by
+// doubling, so push is O(1) amortized and allocates only on growth.
+//
+// The popWhile* helpers are the monotonic-stack step used by "next greater /
+// smaller element", stock span and histogram problems.
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new int[Math.max(1, initialCapacity)];
+    }
+
+    // Push to top - O(1) amortized
+    public void push(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size++] = value;
+    }
+
+    // Remove from top - O(1), throws EmptyStackException like Stack.pop()
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[--size];
+    }
+
+    // View top - O(1), throws EmptyStackException like Stack.peek()
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    // Top, or the fallback when empty - avoids an isEmpty() branch at call sites
+    public int peekOrDefault(int fallback) {
+        return size == 0 ? fallback : elements[size - 1];
+    }
+
+    // Monotonic step: pop every top element <= value. Afterwards the top (if
+    // any) is the nearest element strictly greater than value - O(popped)
+    public int popWhileAtMost(int value) {
+        int n = size;
+        while (n > 0 && elements[n - 1] <= value) {
+            n--;
+        }
+        int popped = size - n;
+        size = n;
+        return popped;
+    }
+
+    // Mirror of popWhileAtMost: pop every top element >= value
+    public int popWhileAtLeast(int value) {
+        int n = size;
+        while (n > 0 && elements[n - 1] >= value) {
+            n--;
+        }
+        int popped = size - n;
+        size = n;
+        return popped;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // O(1) - keeps the backing array for reuse
+    public void clear() {
+        size = 0;
+    }
+
+    // Bottom to top - O(n)
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow() {
+        if (elements.length >= MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required int stack capacity too large");
+        }
+        elements = Arrays.copyOf(elements, (int) Math.min(MAX_ARRAY_SIZE, elements.length * 2L));
+    }
+
+    // Bottom to top, same as Stack.toString()
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
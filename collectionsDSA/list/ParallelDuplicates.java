@@ -0,0 +1,219 @@
+package collectionsDSA.list;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// Fork-join duplicate detection that returns exactly what the serial
+// ArrayListDSA.findDuplicates returns: every repeat occurrence, in list order.
+//
+// Element i is a duplicate iff an equal value appears at some j < i. Equal
+// values always land in the same hash partition, so each partition can decide
+// that on its own, as long as it sees its positions in ascending order:
+//
+//   1. count    - per chunk, how many elements fall in each partition
+//   2. scatter  - write positions grouped by partition (ascending inside each)
+//   3. detect   - per partition, one local IntHashSet marks repeat positions
+//   4. compact  - per chunk, gather marked positions back in list order
+//
+// Every phase is a data-parallel pass on the fork-join pool with no shared
+// mutable set. Writes to the mark array never overlap between partitions.
+public final class ParallelDuplicates {
+    // Below this size the serial scan is faster than forking
+    static final int SERIAL_THRESHOLD = 1 << 16;
+
+    private ParallelDuplicates() {
+    }
+
+    public static List<Integer> findDuplicates(ArrayList<Integer> list) {
+        return findDuplicates(list, ForkJoinPool.commonPool());
+    }
+
+    public static List<Integer> findDuplicates(ArrayList<Integer> list, ForkJoinPool pool) {
+        int n = list.size();
+        if (n < SERIAL_THRESHOLD || pool.getParallelism() < 2) {
+            return ArrayListDSA.findDuplicates(list);
+        }
+
+        // Unbox once, in parallel. A null element has no int form, so lists
+        // containing null take the serial path, which handles it like HashSet
+        int[] values = new int[n];
+        int chunks = chunkCount(n, pool);
+        boolean[] sawNull = new boolean[1];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            for (int i = chunkStart(c, n, chunks), end = chunkStart(c + 1, n, chunks); i < end; i++) {
+                Integer value = list.get(i);
+                if (value == null) {
+                    sawNull[0] = true;
+                    return;
+                }
+                values[i] = value;
+            }
+        }));
+        if (sawNull[0]) {
+            return ArrayListDSA.findDuplicates(list);
+        }
+
+        int[] positions = duplicatePositions(values, n, pool);
+        Integer[] result = new Integer[positions.length];
+        int chunksOut = chunkCount(positions.length, pool);
+        pool.invoke(new ChunkTask(0, chunksOut, c -> {
+            for (int i = chunkStart(c, positions.length, chunksOut),
+                     end = chunkStart(c + 1, positions.length, chunksOut); i < end; i++) {
+                result[i] = list.get(positions[i]);  // Same Integer objects as the serial scan
+            }
+        }));
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    public static IntArrayList findDuplicates(IntArrayList list) {
+        return findDuplicates(list, ForkJoinPool.commonPool());
+    }
+
+    public static IntArrayList findDuplicates(IntArrayList list, ForkJoinPool pool) {
+        int n = list.size();
+        if (n < SERIAL_THRESHOLD || pool.getParallelism() < 2) {
+            return ArrayListDSA.findDuplicates(list);
+        }
+        int[] values = list.buffer();
+        int[] positions = duplicatePositions(values, n, pool);
+        int chunksOut = chunkCount(positions.length, pool);
+        pool.invoke(new ChunkTask(0, chunksOut, c -> {
+            for (int i = chunkStart(c, positions.length, chunksOut),
+                     end = chunkStart(c + 1, positions.length, chunksOut); i < end; i++) {
+                positions[i] = values[positions[i]];  // Position -> value, in place
+            }
+        }));
+        return IntArrayList.wrap(positions);
+    }
+
+    // Ascending positions of every repeat occurrence in values[0, n)
+    static int[] duplicatePositions(int[] values, int n, ForkJoinPool pool) {
+        int chunks = chunkCount(n, pool);
+        int partitionBits = partitionBits(pool);
+        int partitions = 1 << partitionBits;
+        int shift = 32 - partitionBits;
+
+        // 1. count: counts[c * partitions + p]
+        int[] counts = new int[chunks * partitions];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int base = c * partitions;
+            for (int i = chunkStart(c, n, chunks), end = chunkStart(c + 1, n, chunks); i < end; i++) {
+                counts[base + (partitionHash(values[i]) >>> shift)]++;
+            }
+        }));
+
+        // Exclusive prefix sum, partition-major then chunk, so chunk c's slice
+        // of partition p comes right after chunk c-1's slice of the same p
+        int[] offsets = new int[chunks * partitions];
+        int[] partitionStart = new int[partitions + 1];
+        int running = 0;
+        for (int p = 0; p < partitions; p++) {
+            partitionStart[p] = running;
+            for (int c = 0; c < chunks; c++) {
+                offsets[c * partitions + p] = running;
+                running += counts[c * partitions + p];
+            }
+        }
+        partitionStart[partitions] = running;
+
+        // 2. scatter positions; each chunk owns disjoint output slots
+        int[] byPartition = new int[n];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int base = c * partitions;
+            for (int i = chunkStart(c, n, chunks), end = chunkStart(c + 1, n, chunks); i < end; i++) {
+                byPartition[offsets[base + (partitionHash(values[i]) >>> shift)]++] = i;
+            }
+        }));
+
+        // 3. detect: first occurrence wins because positions are ascending
+        boolean[] duplicate = new boolean[n];
+        pool.invoke(new ChunkTask(0, partitions, p -> {
+            int from = partitionStart[p];
+            int to = partitionStart[p + 1];
+            IntHashSet seen = new IntHashSet(to - from);
+            for (int k = from; k < to; k++) {
+                int position = byPartition[k];
+                if (!seen.add(values[position])) {
+                    duplicate[position] = true;
+                }
+            }
+        }));
+
+        // 4. compact marks back into list order
+        int[] marked = new int[chunks];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int count = 0;
+            for (int i = chunkStart(c, n, chunks), end = chunkStart(c + 1, n, chunks); i < end; i++) {
+                if (duplicate[i]) count++;
+            }
+            marked[c] = count;
+        }));
+        int[] outStart = new int[chunks + 1];
+        for (int c = 0; c < chunks; c++) {
+            outStart[c + 1] = outStart[c] + marked[c];
+        }
+        int[] positions = new int[outStart[chunks]];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int out = outStart[c];
+            for (int i = chunkStart(c, n, chunks), end = chunkStart(c + 1, n, chunks); i < end; i++) {
+                if (duplicate[i]) positions[out++] = i;
+            }
+        }));
+        return positions;
+    }
+
+    // Murmur3 finalizer. Deliberately unrelated to IntHashSet's Fibonacci mix:
+    // all keys of a partition share these top bits, and they must not also
+    // share the bits IntHashSet uses to pick a slot
+    private static int partitionHash(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // A few chunks per worker so a slow chunk doesn't leave cores idle
+    private static int chunkCount(int n, ForkJoinPool pool) {
+        int byWork = Math.max(1, n / (SERIAL_THRESHOLD / 4));
+        return Math.max(1, Math.min(pool.getParallelism() * 4, byWork));
+    }
+
+    private static int partitionBits(ForkJoinPool pool) {
+        int target = Math.min(1 << 12, pool.getParallelism() * 8);
+        return 32 - Integer.numberOfLeadingZeros(target - 1);
+    }
+
+    private static int chunkStart(int chunk, int n, int chunks) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    // Splits [lo, hi) of chunk indices in half until one chunk is left
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final IntConsumer body;
+
+        ChunkTask(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= 1) {
+                if (hi > lo) body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(lo, mid, body), new ChunkTask(mid, hi, body));
+        }
+    }
+}
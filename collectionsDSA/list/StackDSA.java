@@ -56,6 +56,10 @@ public class StackDSA {
         System.out.println("Is '" + expression1 + "' balanced: " + isBalanced(expression1));
         System.out.println("Is '" + expression2 + "' balanced: " + isBalanced(expression2));
         
+        // Large inputs: no char[] copy, no boxing, reports where it breaks
+        String json = "{\"a\": [1, 2, {\"b\": (3)]}";
+        System.out.println("First mismatch in '" + json + "' at offset: " + findMismatch(json));
+        
         // Reverse a string using stack
         String original = "Hello";
         String reversed = reverseString(original);
@@ -65,6 +69,20 @@ public class StackDSA {
         String postfix = "23+4*";  // (2+3)*4 = 20
         int result = evaluatePostfix(postfix);
         System.out.println("Postfix '" + postfix + "' = " + result);
+        System.out.println("Postfix '12 30 + 4 *' = " + evaluatePostfixLong("12 30 + 4 *"));
+        System.out.println("Postfix '1.5 2 +' = " + evaluatePostfixDouble("1.5 2 +"));
+        System.out.println("Infix '(1.5 + 2) * -4 ^ 2' = " + evaluateInfix("(1.5 + 2) * -4 ^ 2"));
+        
+        // Compile once, evaluate many times with different variables - no allocation per call
+        CompiledExpression interest = new ExpressionCompiler()
+            .compile("principal * (1 + rate / 100) ^ years", "principal", "rate", "years");
+        double[] evalStack = new double[interest.stackSize()];
+        double[] row = new double[3];
+        for (int years = 1; years <= 3; years++) {
+            row[0] = 1000; row[1] = 5; row[2] = years;
+            System.out.printf("%s with years=%d: %.2f%n", interest, years, interest.evaluate(row, evalStack));
+        }
+        System.out.println("Compiled postfix: " + interest.toPostfix());
         
         // Next greater element problem
         int[] arr = {4, 5, 2, 25};
@@ -92,6 +110,13 @@ public class StackDSA {
         return stack.isEmpty();
     }
     
+    // Streaming balanced check - O(n) time, O(depth) space, no per-char allocation.
+    // Returns -1 if balanced, else the offset of the first mismatch.
+    // See BracketValidator for Reader/ByteBuffer/chunked input
+    public static long findMismatch(CharSequence expression) {
+        return BracketValidator.firstMismatch(expression);
+    }
+    
     // Reverse string using stack - O(n) time, O(n) space
     public static String reverseString(String str) {
         Stack<Character> stack = new Stack<>();
@@ -107,6 +132,7 @@ public class StackDSA {
     }
     
     // Evaluate postfix expression - O(n) time, O(n) space
+    // Single-digit operands, one character per token ("23+4*")
     public static int evaluatePostfix(String expression) {
         Stack<Integer> stack = new Stack<>();
         for (char ch : expression.toCharArray()) {
@@ -126,16 +152,34 @@ public class StackDSA {
         return stack.pop();
     }
     
+    // Multi-digit postfix in long arithmetic via ExpressionCompiler - O(n).
+    // Tokens separated by whitespace ("12 3 + 4 *"); without whitespace,
+    // one character per token ("23+4*"). Rejects double operands
+    public static long evaluatePostfixLong(String expression) {
+        return new ExpressionCompiler().compilePostfix(expression).evaluateLong();
+    }
+    
+    // Same, in double arithmetic: "1.5 2 +" = 3.5
+    public static double evaluatePostfixDouble(String expression) {
+        return new ExpressionCompiler().compilePostfix(expression).evaluateDouble();
+    }
+    
+    // Infix evaluation (shunting-yard) - O(n). For formulas evaluated many
+    // times, compile once with ExpressionCompiler and reuse the result
+    public static double evaluateInfix(String expression) {
+        return new ExpressionCompiler().compile(expression).evaluateDouble();
+    }
+    
     // Next greater element - O(n) time, O(n) space
+    // Monotonic IntStack instead of Stack<Integer>: no boxing, no locking, and
+    // no allocation per element (the stack only grows, by doubling)
     public static int[] findNextGreater(int[] arr) {
         int[] result = new int[arr.length];
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         
         for (int i = arr.length - 1; i >= 0; i--) {
-            while (!stack.isEmpty() && stack.peek() <= arr[i]) {
-                stack.pop();
-            }
-            result[i] = stack.isEmpty() ? -1 : stack.peek();
+            stack.popWhileAtMost(arr[i]);
+            result[i] = stack.peekOrDefault(-1);
             stack.push(arr[i]);
         }
         return result;
@@ -190,14 +234,17 @@ public class StackDSA {
  | Stack<Class>   | O(1)   | O(1)  | O(1)   | Higher | Legacy, synchronized
  | ArrayDeque     | O(1)   | O(1)  | O(1)   | Lower  | Recommended, not synchronized
  | LinkedList     | O(1)   | O(1)  | O(1)   | Highest| Node overhead, not recommended
+ | IntStack       | O(1)   | O(1)  | O(1)   | Lowest | Primitive int[], no boxing (int values only)
 
  ============================================================================
                     COMMON DSA INTERVIEW QUESTIONS
  ============================================================================
  
  1. Balanced parentheses/brackets checking - O(n)
+    (large inputs: BracketValidator - byte[] stack, no copy, mismatch offset)
  2. Infix to postfix/prefix conversion - O(n)
  3. Evaluation of postfix/prefix expressions - O(n)
+    (compile once, evaluate many: ExpressionCompiler -> CompiledExpression)
  4. Next greater element problem - O(n)
  5. Stock span problem - O(n)
  6. Largest rectangle in histogram - O(n)
@@ -0,0 +1,406 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+// Size-bounded cache with a choice of eviction policy:
+//
+// - Policy.LRU: same behaviour as LinkedHashMapDSA.LRUCache - one access-ordered
+//   list, the least recently used entry is evicted.
+// - Policy.W_TINY_LFU: window TinyLFU (the policy behind Caffeine). Recency
+//   alone lets a single scan flush the whole hot set; TinyLFU only lets a new
+//   key into the main region if it has been seen more often than the entry it
+//   would replace.
+//
+//     new key --> [ window LRU, 1% ] --evicted--> candidate
+//                                                    |  admit if freq(candidate) > freq(victim)
+//                 [ probation, 20% of main ] <-------+  victim = probation's eldest
+//                        | hit                ^
+//                        v                    | demoted when protected overflows
+//                 [ protected, 80% of main ] -+
+//
+//   Frequencies come from FrequencySketch (count-min, 4-bit counters, halved
+//   every 10 * capacity accesses so old popularity fades).
+//
+// Optional TTL (Expiry.afterWrite / afterAccess): deadlines sit in a
+// TimerWheel; get/put expire due entries in a batch first, or a maintenance
+// thread can call cleanUp(). Expired entries count as evictions.
+//
+// Every operation is O(1). Not thread-safe - wrap with external locking like
+// LinkedHashMap (Collections.synchronizedMap) or see ConcurrentLRUCache.
+public class BoundedCache<K, V> {
+
+    public enum Policy { LRU, W_TINY_LFU }
+
+    private static final double WINDOW_FRACTION = 0.01;
+    private static final double PROTECTED_FRACTION = 0.80;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final int capacity;
+    private final Policy policy;
+    private final int windowMax;
+    private final int protectedMax;
+    private final HashMap<K, Node<K, V>> data;
+    private final AccessList<K, V> window = new AccessList<>();
+    private final AccessList<K, V> probation = new AccessList<>();
+    private final AccessList<K, V> protectedList = new AccessList<>();
+    private final FrequencySketch sketch;  // null for LRU
+    private final Expiry expiry;
+    private final TimerWheel<K> wheel;     // null without a TTL
+    private final CacheStats stats;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+
+    public BoundedCache(int capacity, Policy policy) {
+        this(capacity, policy, Expiry.none(), CacheStats.disabled(), null);
+    }
+
+    // stats: CacheStats.counters() / withLatency(); listener may be null
+    public BoundedCache(int capacity, Policy policy, CacheStats stats,
+                        BiConsumer<? super K, ? super V> evictionListener) {
+        this(capacity, policy, Expiry.none(), stats, evictionListener);
+    }
+
+    public BoundedCache(int capacity, Policy policy, Expiry expiry, CacheStats stats,
+                        BiConsumer<? super K, ? super V> evictionListener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy);
+        this.expiry = Objects.requireNonNull(expiry);
+        this.wheel = expiry.newWheel();
+        this.stats = Objects.requireNonNull(stats);
+        this.evictionListener = evictionListener;
+        this.data = new HashMap<>();
+        if (policy == Policy.LRU) {
+            // Everything lives in the window and nothing is ever admitted to main
+            this.windowMax = capacity;
+            this.protectedMax = 0;
+            this.sketch = null;
+        } else {
+            this.windowMax = Math.max(1, (int) (capacity * WINDOW_FRACTION));
+            this.protectedMax = (int) ((capacity - windowMax) * PROTECTED_FRACTION);
+            this.sketch = new FrequencySketch(capacity);
+        }
+    }
+
+    // Lookup - O(1) amortized, counts as an access
+    public V get(Object key) {
+        long start = stats.startTimer();
+        long now = expireEntries();
+        Node<K, V> node = data.get(key);
+        if (node != null && isExpired(node, now)) {
+            expireEntry(node);  // Due within the current wheel tick
+            node = null;
+        }
+        if (node == null) {
+            stats.recordMiss();
+            stats.recordGetLatency(start);
+            return null;
+        }
+        if (wheel != null && expiry.isAfterAccess()) {
+            wheel.reschedule(node.timer, now + expiry.ttlNanos());
+        }
+        onAccess(node);
+        stats.recordHit();
+        stats.recordGetLatency(start);
+        return node.value;
+    }
+
+    // Existence check - not an access
+    public boolean containsKey(Object key) {
+        Node<K, V> node = data.get(key);
+        return node != null && !isExpired(node, wheel == null ? 0 : expiry.now());
+    }
+
+    // Insert or replace - returns the previous value. A replace counts as an access
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        long start = stats.startTimer();
+        long now = expireEntries();
+        Node<K, V> node = data.get(key);
+        if (node != null && isExpired(node, now)) {
+            expireEntry(node);
+            node = null;
+        }
+        if (node != null) {
+            V previous = node.value;
+            node.value = value;
+            if (wheel != null) {
+                wheel.reschedule(node.timer, now + expiry.ttlNanos());
+            }
+            onAccess(node);
+            stats.recordPutLatency(start);
+            return previous;
+        }
+        node = new Node<>(key, value);
+        data.put(key, node);
+        if (wheel != null) {
+            node.timer = wheel.schedule(key, now + expiry.ttlNanos());
+        }
+        node.queue = WINDOW;
+        window.addLast(node);
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        evict();
+        stats.recordPutLatency(start);
+        return null;
+    }
+
+    // Remove - O(1), returns the removed value (not reported as an eviction)
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        listOf(node).unlink(node);
+        if (wheel != null) {
+            wheel.cancel(node.timer);
+        }
+        return node.value;
+    }
+
+    // Removes every entry whose TTL has passed. get/put already do this; call
+    // it from a maintenance thread (holding the cache's lock) to reclaim
+    // memory while the cache is idle
+    public void cleanUp() {
+        expireEntries();
+    }
+
+    // Includes expired entries not yet cleaned up
+    public int size() {
+        return data.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    public CacheStats stats() {
+        return stats;
+    }
+
+    public Expiry expiry() {
+        return expiry;
+    }
+
+    public void clear() {
+        if (wheel != null) {
+            wheel.clear();
+        }
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedList.clear();
+    }
+
+    // Keys in eviction order (first = next to go). For W_TINY_LFU that is the
+    // window, then probation, then protected
+    public List<K> keys() {
+        List<K> keys = new ArrayList<>(data.size());
+        for (AccessList<K, V> list : Arrays.asList(window, probation, protectedList)) {
+            for (Node<K, V> node = list.head; node != null; node = node.after) {
+                keys.add(node.key);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (K key : keys()) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(key).append('=').append(data.get(key).value);
+        }
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- policy
+
+    private void onAccess(Node<K, V> node) {
+        if (sketch != null) {
+            sketch.increment(node.key);
+        }
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                // Second hit while in main - promote, demoting protected's eldest if full
+                probation.unlink(node);
+                node.queue = PROTECTED;
+                protectedList.addLast(node);
+                if (protectedList.size > protectedMax) {
+                    Node<K, V> demoted = protectedList.head;
+                    protectedList.unlink(demoted);
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            default:
+                protectedList.moveToLast(node);
+        }
+    }
+
+    // Called after each insert, so at most one entry has to go
+    private void evict() {
+        if (window.size <= windowMax) {
+            return;
+        }
+        Node<K, V> candidate = window.head;
+        window.unlink(candidate);
+        if (data.size() <= capacity) {
+            // Main region still has room - no contest
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            return;
+        }
+        Node<K, V> victim = probation.head != null ? probation.head : protectedList.head;
+        if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            listOf(victim).unlink(victim);
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            evictEntry(victim);
+        } else {
+            evictEntry(candidate);  // Always the case for LRU: main is empty
+        }
+    }
+
+    private void evictEntry(Node<K, V> node) {
+        data.remove(node.key);
+        if (wheel != null) {
+            wheel.cancel(node.timer);
+        }
+        notifyEvicted(node);
+    }
+
+    // ---------------------------------------------------------------- expiry
+
+    // Advances the wheel, dropping everything that came due. Returns "now"
+    private long expireEntries() {
+        if (wheel == null) {
+            return 0L;
+        }
+        long now = expiry.now();
+        wheel.advance(now, key -> {
+            Node<K, V> node = data.remove(key);
+            listOf(node).unlink(node);
+            notifyEvicted(node);
+        });
+        return now;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return wheel != null && node.timer.expiresAt() - now <= 0;
+    }
+
+    private void expireEntry(Node<K, V> node) {
+        data.remove(node.key);
+        listOf(node).unlink(node);
+        wheel.cancel(node.timer);
+        notifyEvicted(node);
+    }
+
+    private void notifyEvicted(Node<K, V> node) {
+        stats.recordEviction();
+        if (evictionListener != null) {
+            evictionListener.accept(node.key, node.value);
+        }
+    }
+
+    private AccessList<K, V> listOf(Node<K, V> node) {
+        return node.queue == WINDOW ? window : node.queue == PROBATION ? probation : protectedList;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    static final class Node<K, V> {
+        final K key;
+        V value;
+        int queue;
+        TimerWheel.Timer<K> timer;  // null without a TTL
+        Node<K, V> before;
+        Node<K, V> after;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Intrusive doubly linked list - head is the eldest
+    static final class AccessList<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        int size;
+
+        void addLast(Node<K, V> node) {
+            node.before = tail;
+            node.after = null;
+            if (tail == null) head = node;
+            else tail.after = node;
+            tail = node;
+            size++;
+        }
+
+        void unlink(Node<K, V> node) {
+            Node<K, V> b = node.before;
+            Node<K, V> a = node.after;
+            if (b == null) head = a;
+            else b.after = a;
+            if (a == null) tail = b;
+            else a.before = b;
+            node.before = node.after = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            head = tail = null;
+            size = 0;
+        }
+    }
+}
+
+/*
+ ============================================================================
+                        LRU VS W-TINYLFU
+ ============================================================================
+
+ | Operation   | LRU    | W-TinyLFU | Notes
+ |-------------|--------|-----------|------
+ | get (hit)   | O(1)   | O(1)      | TinyLFU also bumps 4 sketch counters
+ | get (miss)  | O(1)   | O(1)      |
+ | put (new)   | O(1)   | O(1)      | At most one eviction per put
+ | remove      | O(1)   | O(1)      |
+
+ When TinyLFU wins:
+ - Skewed (Zipfian) traffic: popular keys stay in protected; one-hit wonders
+   die in the 1% window without displacing anything
+ - Scans: a sequential pass only ever churns the window
+ - Loops larger than the cache: LRU hits 0%, TinyLFU keeps a stable subset
+
+ When LRU is as good or better:
+ - Strongly recency-biased traffic (each key is hot once, then never again)
+ - Very small caches, where the 1% window rounds to a single entry
+
+ Extra memory for TinyLFU: the sketch, ~8 bytes per entry of capacity.
+ Extra memory for a TTL: one TimerWheel.Timer (~32 bytes) per entry.
+
+ ============================================================================
+*/
@@ -0,0 +1,183 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.*;
+
+// Bulk search/reduce/forEach over a ConcurrentHashMap with the
+// parallelismThreshold chosen for you, on the pool you choose.
+//
+// ConcurrentHashMap's bulk methods take a parallelismThreshold: roughly, the
+// number of entries a task must have before it splits. 1 forks down to
+// tiny batches even for a 5-entry map; Long.MAX_VALUE runs sequentially.
+// The right value depends on two things the map cannot know:
+// - how much work there is in total (size x cost per entry), and whether
+//   that beats the few microseconds it takes to wake workers at all;
+// - how many entries a leaf task needs so its work outweighs fork/join
+//   bookkeeping.
+//
+// Here:
+// - Cost per entry is measured: every call is timed and folded into a
+//   running average (nanos x workers used / entries). Keep one BulkQuery
+//   per query shape so the estimate fits the function; until the first
+//   call finishes, DEFAULT_NANOS_PER_ENTRY is assumed.
+// - threshold = max(entries for MIN_LEAF_NANOS of work, size / (4 x
+//   parallelism)), or Long.MAX_VALUE if the whole job is under
+//   SERIAL_NANOS or the pool has one worker.
+// - on(pool) runs the call inside that pool: the map's bulk tasks fork onto
+//   the calling worker's pool, so they never touch the common pool.
+//   ConcurrentHashMap still caps the split count at 4 x the common pool's
+//   parallelism, so a custom pool wider than that gains nothing more.
+public class BulkQuery<K, V> {
+    static final double DEFAULT_NANOS_PER_ENTRY = 50;
+    static final long SERIAL_NANOS = 100_000;    // Below this much total work, don't fork
+    static final long MIN_LEAF_NANOS = 20_000;   // Each leaf task should do at least this much
+    private static final double SMOOTHING = 0.25;
+
+    private final ConcurrentHashMap<K, V> map;
+    private final ForkJoinPool pool;
+    private volatile double nanosPerEntry = Double.NaN;  // NaN until the first call completes
+
+    private BulkQuery(ConcurrentHashMap<K, V> map, ForkJoinPool pool) {
+        this.map = Objects.requireNonNull(map);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    // Queries on the common pool, like calling the map directly
+    public static <K, V> BulkQuery<K, V> of(ConcurrentHashMap<K, V> map) {
+        return new BulkQuery<>(map, ForkJoinPool.commonPool());
+    }
+
+    // Same map, queries run on 'pool'. The cost estimate starts over
+    public BulkQuery<K, V> on(ForkJoinPool pool) {
+        return new BulkQuery<>(map, pool);
+    }
+
+    // Seeds the cost estimate, e.g. from a previous run or a benchmark
+    public BulkQuery<K, V> withCostHint(double nanosPerEntry) {
+        if (!(nanosPerEntry > 0)) {
+            throw new IllegalArgumentException("Illegal cost per entry: " + nanosPerEntry);
+        }
+        this.nanosPerEntry = nanosPerEntry;
+        return this;
+    }
+
+    // First non-null result of f, or null. Which match wins is unspecified
+    public <U> U search(BiFunction<? super K, ? super V, ? extends U> f) {
+        long threshold = parallelismThreshold();
+        return timed(threshold, () -> map.search(threshold, f));
+    }
+
+    public <U> U reduce(BiFunction<? super K, ? super V, ? extends U> transformer,
+                        BiFunction<? super U, ? super U, ? extends U> reducer) {
+        long threshold = parallelismThreshold();
+        return timed(threshold, () -> map.reduce(threshold, transformer, reducer));
+    }
+
+    // Primitive reducers - no boxing per entry or per partial result
+    public long reduceToLong(ToLongBiFunction<? super K, ? super V> transformer,
+                             long basis, LongBinaryOperator reducer) {
+        long threshold = parallelismThreshold();
+        return timed(threshold, () -> map.reduceToLong(threshold, transformer, basis, reducer));
+    }
+
+    public int reduceToInt(ToIntBiFunction<? super K, ? super V> transformer,
+                           int basis, IntBinaryOperator reducer) {
+        long threshold = parallelismThreshold();
+        return timed(threshold, () -> map.reduceToInt(threshold, transformer, basis, reducer));
+    }
+
+    public double reduceToDouble(ToDoubleBiFunction<? super K, ? super V> transformer,
+                                 double basis, DoubleBinaryOperator reducer) {
+        long threshold = parallelismThreshold();
+        return timed(threshold, () -> map.reduceToDouble(threshold, transformer, basis, reducer));
+    }
+
+    // action may run concurrently on different entries
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        long threshold = parallelismThreshold();
+        timed(threshold, () -> {
+            map.forEach(threshold, action);
+            return null;
+        });
+    }
+
+    // The threshold the next call would use, for the map's current size
+    public long parallelismThreshold() {
+        return thresholdFor(map.mappingCount(), costEstimate(), pool.getParallelism());
+    }
+
+    public double costEstimate() {
+        double cost = nanosPerEntry;
+        return Double.isNaN(cost) ? DEFAULT_NANOS_PER_ENTRY : cost;
+    }
+
+    static long thresholdFor(long size, double nanosPerEntry, int parallelism) {
+        if (parallelism < 2 || size * nanosPerEntry < SERIAL_NANOS) {
+            return Long.MAX_VALUE;
+        }
+        long leaf = (long) Math.ceil(MIN_LEAF_NANOS / nanosPerEntry);
+        long balanced = size / (4L * parallelism);
+        return Math.max(1, Math.max(leaf, balanced));
+    }
+
+    // Runs the call on this query's pool and folds its time into the estimate
+    private <T> T timed(long threshold, Callable<T> call) {
+        long size = map.mappingCount();
+        long start = System.nanoTime();
+        T result = threshold == Long.MAX_VALUE ? callHere(call) : callIn(pool, call);
+        long elapsed = System.nanoTime() - start;
+        if (size > 0) {
+            long workers = threshold == Long.MAX_VALUE ? 1 : Math.min(pool.getParallelism(), Math.max(1, size / threshold));
+            double sample = (double) elapsed * workers / size;
+            double cost = nanosPerEntry;
+            nanosPerEntry = Double.isNaN(cost) ? sample : cost + SMOOTHING * (sample - cost);
+        }
+        return result;
+    }
+
+    private static <T> T callHere(Callable<T> call) {
+        try {
+            return call.call();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);  // The callables above throw nothing checked
+        }
+    }
+
+    // ForkJoinTask.fork() pushes onto the current worker's pool, so a bulk
+    // call made from inside 'pool' keeps all of its subtasks there
+    private static <T> T callIn(ForkJoinPool pool, Callable<T> call) {
+        Thread current = Thread.currentThread();
+        boolean worker = current instanceof ForkJoinWorkerThread;
+        if (worker ? ((ForkJoinWorkerThread) current).getPool() == pool : pool == ForkJoinPool.commonPool()) {
+            return callHere(call);  // Already where the tasks should go
+        }
+        return pool.invoke(ForkJoinTask.adapt(call));
+    }
+}
+
+/*
+ ============================================================================
+              BULKQUERY VS CALLING CONCURRENTHASHMAP DIRECTLY
+ ============================================================================
+
+ | Concern               | map.reduce(1, ...)          | BulkQuery.reduce(...)
+ |-----------------------|-----------------------------|----------------------
+ | Small map (< ~2000)   | forks anyway                | sequential (Long.MAX_VALUE)
+ | Large, cheap entries  | ~4 x common-pool tasks      | leaves of >= 20 us of work
+ | Large, costly entries | ~4 x common-pool tasks      | ~4 tasks per pool worker
+ | Pool                  | always the common pool      | common pool or on(pool)
+ | long/int/double sums  | reduceToLong(1, ...)        | reduceToLong(...), threshold chosen
+
+ Work per call is the same O(n) as the map's own methods; the estimate
+ update is O(1). For a one-off query, seed withCostHint() if you know the
+ function is expensive - the default assumes ~50 ns per entry.
+
+ ============================================================================
+*/
@@ -0,0 +1,148 @@
+package collectionsDSA.map;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Hit/miss/eviction counters (and optional latency histograms) for the bounded
+// caches. Counters are LongAdders, so concurrent caches don't contend on them,
+// and snapshot() never locks the cache.
+//
+// CacheStats.disabled() is a shared no-op instance: every record method
+// returns on a final boolean and timers never call System.nanoTime(), so a
+// cache built without stats pays essentially nothing.
+public class CacheStats {
+    private static final CacheStats DISABLED = new CacheStats(false, false);
+
+    private final boolean enabled;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LatencyHistogram getLatency;
+    private final LatencyHistogram putLatency;
+
+    private CacheStats(boolean enabled, boolean latency) {
+        this.enabled = enabled;
+        this.hits = enabled ? new LongAdder() : null;
+        this.misses = enabled ? new LongAdder() : null;
+        this.evictions = enabled ? new LongAdder() : null;
+        this.getLatency = latency ? new LatencyHistogram() : null;
+        this.putLatency = latency ? new LatencyHistogram() : null;
+    }
+
+    public static CacheStats disabled() {
+        return DISABLED;
+    }
+
+    // Hit, miss and eviction counters
+    public static CacheStats counters() {
+        return new CacheStats(true, false);
+    }
+
+    // Counters plus get/put latency histograms (two System.nanoTime() calls per op)
+    public static CacheStats withLatency() {
+        return new CacheStats(true, true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void recordHit() {
+        if (enabled) hits.increment();
+    }
+
+    public void recordMiss() {
+        if (enabled) misses.increment();
+    }
+
+    public void recordEviction() {
+        if (enabled) evictions.increment();
+    }
+
+    // Returns a start timestamp, or 0 when latency tracking is off
+    public long startTimer() {
+        return getLatency != null ? System.nanoTime() : 0L;
+    }
+
+    public void recordGetLatency(long start) {
+        if (getLatency != null) getLatency.record(System.nanoTime() - start);
+    }
+
+    public void recordPutLatency(long start) {
+        if (putLatency != null) putLatency.record(System.nanoTime() - start);
+    }
+
+    // Lock-free; counters are read one by one, so under concurrent traffic the
+    // snapshot is consistent per counter, not across counters
+    public Snapshot snapshot() {
+        if (!enabled) {
+            return new Snapshot(0, 0, 0, null, null);
+        }
+        return new Snapshot(hits.sum(), misses.sum(), evictions.sum(),
+                getLatency == null ? null : getLatency.snapshot(),
+                putLatency == null ? null : putLatency.snapshot());
+    }
+
+    public static final class Snapshot {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final LatencyHistogram.Snapshot getLatency;
+        private final LatencyHistogram.Snapshot putLatency;
+
+        Snapshot(long hitCount, long missCount, long evictionCount,
+                 LatencyHistogram.Snapshot getLatency, LatencyHistogram.Snapshot putLatency) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.getLatency = getLatency;
+            this.putLatency = putLatency;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public double hitRate() {
+            long requests = requestCount();
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public double missRate() {
+            long requests = requestCount();
+            return requests == 0 ? 0.0 : (double) missCount / requests;
+        }
+
+        // null unless created with CacheStats.withLatency()
+        public LatencyHistogram.Snapshot getLatency() {
+            return getLatency;
+        }
+
+        public LatencyHistogram.Snapshot putLatency() {
+            return putLatency;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder()
+                    .append("hits=").append(hitCount)
+                    .append(" misses=").append(missCount)
+                    .append(" evictions=").append(evictionCount)
+                    .append(String.format(" hitRate=%.2f", hitRate()));
+            if (getLatency != null) sb.append(" get[").append(getLatency).append(']');
+            if (putLatency != null) sb.append(" put[").append(putLatency).append(']');
+            return sb.toString();
+        }
+    }
+}
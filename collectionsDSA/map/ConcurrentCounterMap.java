@@ -0,0 +1,238 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.ObjLongConsumer;
+
+// Thread-safe key -> count map for counters hammered from many threads
+// (hits per URL, events per user, word counts from parallel readers).
+//
+// Why not ConcurrentHashMap.merge(key, 1, Integer::sum)? Every increment
+// allocates a new Integer (above 127) and takes the bin's lock, so all
+// threads bumping a hot key queue up on one monitor and one cache line.
+//
+// Here (same idea as LongAdder, per key):
+// - Keys map to a Counter in a ConcurrentHashMap; an increment of a known
+//   key is a lock-free get() plus one atomic add - nothing is allocated.
+// - A Counter starts as a single CAS'd long. Once CASes on it have lost
+//   INFLATE_AFTER races the key is hot and gets 2 padded cells; each
+//   thread adds to the cell its probe (a per-thread random number) picks.
+// - A thread whose cell CAS loses a race moves to a new probe, and the
+//   cell array doubles, up to MAX_CELLS (2 x CPUs, at most 64). So writers
+//   spread out over time instead of staying paired on a fixed hash of
+//   their thread id, and a key only grows as many cells as it has
+//   colliding writers.
+// - get() sums base + cells on read. Like LongAdder.sum() this is not an
+//   atomic snapshot while writers are running, but every completed add is
+//   counted and the result is exact once they stop.
+// - Cold keys never inflate, so they cost one small object each; a hot key
+//   costs ~170 bytes per cell it grew, at most ~11 KB.
+public class ConcurrentCounterMap<K> {
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_CELLS = Math.min(64, Integer.highestOneBit(Math.max(1, NCPU) * 2 - 1) << 1);
+    private static final int INFLATE_AFTER = 4;     // Lost CASes on base before a key gets cells
+    private static final int CELL_LONGS = 17;       // Value in the middle: 64 bytes of padding either side
+    private static final int VALUE = CELL_LONGS / 2;
+
+    // Per-thread cell selector, rehashed when the thread's cell is contended
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    private final ConcurrentHashMap<K, Counter> counters;
+
+    public ConcurrentCounterMap() {
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    public ConcurrentCounterMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.counters = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    // O(1), lock-free once the key exists (the first add of a key locks its bin)
+    public void increment(K key) {
+        add(key, 1);
+    }
+
+    public void add(K key, long delta) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.add(delta);
+    }
+
+    // Sum of all adds to key, 0 if absent - O(cells) for a hot key
+    public long get(Object key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public boolean containsKey(Object key) {
+        return counters.containsKey(key);
+    }
+
+    // Removes key and returns its count. An add racing with the removal may
+    // land on the detached counter and be lost
+    public long remove(Object key) {
+        Counter counter = counters.remove(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // Sum over every key; not atomic with respect to concurrent adds
+    public long total() {
+        long total = 0;
+        for (Counter counter : counters.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    // Weakly consistent, like ConcurrentHashMap's iterators
+    public void forEach(ObjLongConsumer<? super K> action) {
+        counters.forEach((key, counter) -> action.accept(key, counter.sum()));
+    }
+
+    // Point-in-time copy as a plain map (each count read once)
+    public Map<K, Long> snapshot() {
+        Map<K, Long> copy = new HashMap<>();
+        forEach(copy::put);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    // Xorshift step: a new, uncorrelated cell choice for a contended thread
+    private static int rehash(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        return probe ^ (probe << 5);
+    }
+
+    // One key's count: 'base' until contended, base + cells after
+    static final class Counter {
+        private static final AtomicLongFieldUpdater<Counter> BASE =
+                AtomicLongFieldUpdater.newUpdater(Counter.class, "base");
+
+        volatile long base;
+        volatile AtomicLongArray[] cells;  // null until inflated; power-of-two length
+        int lostRaces;                     // Racy on purpose - a heuristic, not a count
+
+        void add(long delta) {
+            AtomicLongArray[] cs = cells;
+            if (cs == null) {
+                long b = base;
+                if (BASE.compareAndSet(this, b, b + delta)) {
+                    return;
+                }
+                if (++lostRaces < INFLATE_AFTER) {
+                    BASE.getAndAdd(this, delta);
+                    return;
+                }
+                cs = inflate();
+            }
+            int[] probe = PROBE.get();
+            while (true) {
+                AtomicLongArray cell = cs[probe[0] & (cs.length - 1)];
+                if (cell == null) {
+                    if (install(cs, probe[0], delta)) {
+                        return;
+                    }
+                } else {
+                    long v = cell.get(VALUE);
+                    if (cell.compareAndSet(VALUE, v, v + delta)) {
+                        return;
+                    }
+                    probe[0] = rehash(probe[0]);  // Contended: try another cell next time
+                    if (cs.length < MAX_CELLS) {
+                        grow(cs);             // Re-checks under the lock
+                    }
+                }
+                cs = cells;
+            }
+        }
+
+        private synchronized AtomicLongArray[] inflate() {
+            if (cells == null) {
+                cells = new AtomicLongArray[2];
+            }
+            return cells;
+        }
+
+        // Creates the cell holding delta; false if someone else got there first
+        private synchronized boolean install(AtomicLongArray[] cs, int probe, long delta) {
+            int i = probe & (cs.length - 1);
+            if (cells != cs || cs[i] != null) {
+                return false;
+            }
+            AtomicLongArray cell = new AtomicLongArray(CELL_LONGS);
+            cell.set(VALUE, delta);
+            cs[i] = cell;
+            return true;
+        }
+
+        // Doubles the cell array up to MAX_CELLS; existing cells (and their
+        // counts) move over
+        private synchronized void grow(AtomicLongArray[] cs) {
+            if (cells == cs && cs.length < MAX_CELLS) {
+                cells = Arrays.copyOf(cs, cs.length << 1);
+            }
+        }
+
+        long sum() {
+            long sum = base;
+            AtomicLongArray[] cs = cells;
+            if (cs != null) {
+                for (AtomicLongArray cell : cs) {
+                    if (cell != null) sum += cell.get(VALUE);
+                }
+            }
+            return sum;
+        }
+    }
+}
+
+/*
+ ============================================================================
+            CONCURRENTCOUNTERMAP VS CONCURRENTHASHMAP.MERGE
+ ============================================================================
+
+ | Operation          | ConcurrentCounterMap         | ConcurrentHashMap<K, Integer>.merge
+ |--------------------|------------------------------|-----------------------------------
+ | increment (known)  | lock-free get + atomic add   | bin lock + new Integer per call (above 127)
+ | increment (new)    | bin lock, one Counter        | bin lock, one Node
+ | hot key, N threads | up to N cells, re-probed     | N threads serialize on one lock
+ | get(key)           | O(cells), sums on read       | O(1), exact at every instant
+ | remove(key)        | O(1), may drop racing adds   | O(1), atomic
+
+ Versus ConcurrentHashMap<K, LongAdder> (computeIfAbsent(k, ...).increment()):
+ the same growth scheme (re-probe on contention, double the cells), but
+ LongAdder inflates on the first lost CAS; here a key needs INFLATE_AFTER
+ lost races, so a briefly contended key in the warm tail stays small.
+
+ Memory per key (64-bit JVM, compressed oops):
+ - cold: 32 byte Node + 32 byte Counter
+ - hot:  + ~170 bytes per cell (2, 4, ... up to 2 x CPUs, at most 64)
+
+ ============================================================================
+*/
@@ -91,6 +91,26 @@ public class ConcurrentHashMapDSA {
         }
         System.out.println("Counter after merge increments: " + atomicMap.get("Counter"));
         
+        // Many threads on one hot key: merge locks the bin and boxes an Integer
+        // per call, ConcurrentCounterMap adds to a per-thread cell instead
+        ConcurrentCounterMap<String> hits = new ConcurrentCounterMap<>();
+        Runnable hitter = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                hits.increment(i % 10 == 0 ? "/login" : "/home");
+            }
+        };
+        Thread hitter1 = new Thread(hitter);
+        Thread hitter2 = new Thread(hitter);
+        hitter1.start();
+        hitter2.start();
+        try {
+            hitter1.join();
+            hitter2.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Hits after 2 x 10000 increments: " + hits + " (total " + hits.total() + ")");
+        
         // 5. COMPUTE OPERATIONS
         
         ConcurrentHashMap<String, String> computeMap = new ConcurrentHashMap<>();
@@ -145,12 +165,18 @@ public class ConcurrentHashMapDSA {
         System.out.println("\nBulk operations:");
         bulkMap.forEach((key, value) -> System.out.println(key + " = " + value));
         
+        // The first argument of search/reduce is the parallelismThreshold:
+        // 1 forks tasks even for these 5 entries. BulkQuery picks it from the
+        // map size and the measured cost per entry (Long.MAX_VALUE = sequential)
+        BulkQuery<String, Integer> query = BulkQuery.of(bulkMap);
+        System.out.println("Threshold for " + bulkMap.size() + " entries: " + query.parallelismThreshold());
+        
         // Search operation
-        String foundKey = bulkMap.search(1, (key, value) -> value > 3 ? key : null);
+        String foundKey = query.search((key, value) -> value > 3 ? key : null);
         System.out.println("Found key with value > 3: " + foundKey);
         
-        // Reduce operation
-        int sum = bulkMap.reduce(1, (key, value) -> value, Integer::sum);
+        // Reduce operation - reduceToLong sums without boxing partial results
+        long sum = query.reduceToLong((key, value) -> value, 0L, Long::sum);
         System.out.println("Sum of all values: " + sum);
         
         // 8. COLLECTION VIEWS
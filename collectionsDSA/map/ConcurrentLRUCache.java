@@ -0,0 +1,348 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread-safe LRU cache with the same contract as LinkedHashMapDSA.LRUCache:
+// at most 'capacity' entries, least recently used evicted first.
+//
+// Why not Collections.synchronizedMap(new LRUCache<>(n))? In access-order
+// mode every get() relinks a node, so every read needs the one lock.
+//
+// Here (same idea as Caffeine):
+// - Lookups go to a ConcurrentHashMap and never block.
+// - The LRU list is only touched under evictionLock. A get() just appends the
+//   node to a small per-thread-stripe ring buffer; whoever wins tryLock()
+//   replays the buffered reads onto the list in one batch.
+// - Read buffers are lossy: if a stripe is full the access is dropped. Under
+//   heavy contention recency is therefore approximate. Single-threaded, no
+//   read is ever dropped and eviction order matches LRUCache exactly.
+// - put() of a new key takes the lock, drains pending reads, links the node
+//   and evicts the eldest until the cache is back within capacity.
+public class ConcurrentLRUCache<K, V> {
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, NCPU) * 4 - 1) << 1;
+    private static final int BUFFER_SIZE = 16;                // per stripe, power of two
+    private static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+    private final int capacity;
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // Guarded by evictionLock
+    private Node<K, V> head;  // eldest
+    private Node<K, V> tail;  // most recently used
+    private int linkedCount;
+    private long evictions;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLRUCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.data = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+        this.readBuffers = new ReadBuffer[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    // Lookup - O(1), lock-free. The access is recorded and applied later
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        recordRead(node);
+        return node.value;
+    }
+
+    // Existence check - does not count as an access, same as LinkedHashMap
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    // Insert or replace - returns the previous value. Replacing counts as an
+    // access (like LinkedHashMap in access order) and stays lock-free
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        while (true) {
+            Node<K, V> existing = data.get(key);
+            if (existing != null) {
+                V previous = existing.swapValue(value);
+                if (previous != null) {
+                    recordRead(existing);
+                    return previous;
+                }
+                // Retired by a concurrent remove/evict - retry with a new node
+                data.remove(key, existing);
+                continue;
+            }
+            Node<K, V> node = new Node<>(key, value);
+            if (data.putIfAbsent(key, node) != null) {
+                continue;  // Lost the race to another writer; replace theirs
+            }
+            evictionLock.lock();
+            try {
+                drainReadBuffers();
+                if (!node.retired) {  // A remove() may have beaten us to the lock
+                    linkTail(node);
+                }
+                evictOverflow();
+            } finally {
+                evictionLock.unlock();
+            }
+            return null;
+        }
+    }
+
+    // Remove - O(1) + lock to unlink, returns the removed value
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            return retire(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long evictionCount() {
+        evictionLock.lock();
+        try {
+            return evictions;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            for (Node<K, V> node = head; node != null; ) {
+                Node<K, V> next = node.after;
+                data.remove(node.key, node);
+                retire(node);
+                node = next;
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Keys from eldest to youngest, after applying all buffered reads
+    public List<K> keys() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            List<K> keys = new ArrayList<>(linkedCount);
+            for (Node<K, V> node = head; node != null; node = node.after) {
+                keys.add(node.key);
+            }
+            return keys;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            StringBuilder sb = new StringBuilder("{");
+            for (Node<K, V> node = head; node != null; node = node.after) {
+                if (node != head) sb.append(", ");
+                sb.append(node.key).append('=').append(node.value);
+            }
+            return sb.append('}').toString();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- read buffers
+
+    private void recordRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[stripe()];
+        int pending = buffer.offer(node);
+        if (pending >= DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    // Caller holds evictionLock
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(this);
+        }
+    }
+
+    // Caller holds evictionLock
+    private void onAccess(Node<K, V> node) {
+        if (node.linked && node != tail) {
+            unlink(node);
+            linkTail(node);
+        }
+    }
+
+    // ---------------------------------------------------------------- LRU list (under lock)
+
+    private void evictOverflow() {
+        while (linkedCount > capacity) {
+            Node<K, V> eldest = head;
+            if (data.remove(eldest.key, eldest)) {
+                evictions++;
+            }
+            retire(eldest);
+        }
+    }
+
+    // Marks the node dead (later put()s of its key create a fresh node) and
+    // returns the value it held
+    private V retire(Node<K, V> node) {
+        node.retired = true;
+        V value = node.swapValue(null);
+        if (node.linked) {
+            unlink(node);
+        }
+        return value;
+    }
+
+    private void linkTail(Node<K, V> node) {
+        node.before = tail;
+        node.after = null;
+        if (tail == null) head = node;
+        else tail.after = node;
+        tail = node;
+        node.linked = true;
+        linkedCount++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        Node<K, V> b = node.before;
+        Node<K, V> a = node.after;
+        if (b == null) head = a;
+        else b.after = a;
+        if (a == null) tail = b;
+        else a.before = b;
+        node.before = node.after = null;
+        node.linked = false;
+        linkedCount--;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        // Guarded by evictionLock
+        Node<K, V> before;
+        Node<K, V> after;
+        boolean linked;
+        boolean retired;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        // Returns the old value; null means the node was already retired
+        synchronized V swapValue(V newValue) {
+            V old = value;
+            if (old != null) {
+                value = newValue;
+            }
+            return old;
+        }
+    }
+
+    // Bounded multi-producer ring buffer drained by the lock holder. Producers
+    // claim a slot with a CAS on writeCount; a full buffer drops the event
+    static final class ReadBuffer<K, V> {
+        final AtomicLong writeCount = new AtomicLong();
+        final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>(BUFFER_SIZE);
+        volatile long readCount;  // Written only by the lock holder
+
+        // Returns the number of pending events, or BUFFER_SIZE if dropped
+        int offer(Node<K, V> node) {
+            long write = writeCount.get();
+            long pending = write - readCount;
+            if (pending >= BUFFER_SIZE) {
+                return BUFFER_SIZE;
+            }
+            if (!writeCount.compareAndSet(write, write + 1)) {
+                return (int) pending;  // Contended stripe - drop rather than spin
+            }
+            slots.lazySet((int) (write & (BUFFER_SIZE - 1)), node);
+            return (int) pending + 1;
+        }
+
+        void drainTo(ConcurrentLRUCache<K, V> cache) {
+            long write = writeCount.get();
+            long read = readCount;
+            while (read < write) {
+                int index = (int) (read & (BUFFER_SIZE - 1));
+                Node<K, V> node = slots.get(index);
+                if (node == null) {
+                    break;  // Slot claimed but not yet written - pick it up next drain
+                }
+                slots.lazySet(index, null);
+                cache.onAccess(node);
+                read++;
+            }
+            readCount = read;
+        }
+    }
+}
+
+/*
+ ============================================================================
+                    CONCURRENTLRUCACHE VS SYNCHRONIZED LRUCACHE
+ ============================================================================
+
+ | Operation        | ConcurrentLRUCache            | synchronizedMap(LRUCache)
+ |------------------|-------------------------------|--------------------------
+ | get(key)         | O(1), lock-free + buffered    | O(1), global lock (relinks node)
+ | put(new key)     | O(1) + lock to link/evict     | O(1), global lock
+ | put(existing)    | O(1), lock-free + buffered    | O(1), global lock
+ | remove(key)      | O(1) + lock to unlink         | O(1), global lock
+ | containsKey(key) | O(1), lock-free               | O(1), global lock
+
+ Contract:
+ - Never more than 'capacity' linked entries once a put() returns; a put that
+   is still in flight may be visible to get() before it is linked
+ - Eviction order is exact LRU single-threaded; under contention some reads
+   may be dropped from the buffers, so the order is approximately LRU
+ - Null keys and values are not allowed (ConcurrentHashMap semantics)
+
+ ============================================================================
+*/
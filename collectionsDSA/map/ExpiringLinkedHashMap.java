@@ -0,0 +1,232 @@
+package collectionsDSA.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// InstrumentedLinkedHashMap with an optional TTL (Expiry.afterWrite /
+// afterAccess). Each live entry has one TimerWheel.Timer; get/put advance
+// the wheel and expire everything due in one batch, so there is no sweep
+// thread. Expired entries go to the eviction listener and count as
+// evictions; a get() that finds its entry expired counts as a miss.
+//
+// Every write path (put, putAll, putIfAbsent, compute*, merge, replace)
+// schedules or restarts the timer, and remove/clear/eviction cancel it.
+// Removal through keySet()/values()/entrySet() or their iterators can't
+// cancel the timer (LinkedHashMap's afterNodeRemoval hook is package-
+// private): the timer fires later and is ignored, or is restarted if the
+// key is written again first.
+public class ExpiringLinkedHashMap<K, V> extends InstrumentedLinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final Expiry expiry;
+    private final TimerWheel<K> wheel;                 // null without a TTL
+    private final HashMap<K, TimerWheel.Timer<K>> timers;
+
+    // expiry: Expiry.none() for a plain bounded map; listener may be null
+    public ExpiringLinkedHashMap(int initialCapacity, boolean accessOrder, int maxSize, Expiry expiry,
+                                 CacheStats stats, BiConsumer<? super K, ? super V> evictionListener) {
+        super(initialCapacity, accessOrder, maxSize, stats, evictionListener);
+        this.expiry = expiry;
+        this.wheel = expiry.newWheel();
+        this.timers = wheel == null ? null : new HashMap<>();
+    }
+
+    // get() times and counts this; an entry expired here is a miss
+    @Override
+    protected V lookup(Object key) {
+        long now = expireEntries();
+        V value = super.lookup(key);
+        if (wheel != null && (value != null || containsKey(key))) {
+            @SuppressWarnings("unchecked")
+            K k = (K) key;
+            TimerWheel.Timer<K> timer = timers.get(k);
+            if (timer != null && timer.expiresAt() - now <= 0) {
+                expire(k);  // Due within the current wheel tick
+                value = null;
+            } else if (timer != null && expiry.isAfterAccess()) {
+                wheel.reschedule(timer, now + expiry.ttlNanos());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    protected V store(K key, V value) {
+        long now = beforeWrite(key);
+        V previous = super.store(key, value);
+        afterWrite(key, now, true);
+        return previous;
+    }
+
+    // With a TTL every other write path goes through put() or the same
+    // before/afterWrite pair, so each live entry has exactly one timer
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (wheel == null) {
+            super.putAll(m);
+            return;
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        long now = beforeWrite(key);
+        V previous = super.putIfAbsent(key, value);
+        afterWrite(key, now, previous == null);
+        return previous;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        long now = beforeWrite(key);
+        boolean absent = !containsKey(key);
+        V value = super.computeIfAbsent(key, mappingFunction);
+        afterWrite(key, now, absent);
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        long now = beforeWrite(key);
+        V value = super.computeIfPresent(key, remappingFunction);
+        afterWrite(key, now, true);
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        long now = beforeWrite(key);
+        V value = super.compute(key, remappingFunction);
+        afterWrite(key, now, true);
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        long now = beforeWrite(key);
+        V merged = super.merge(key, value, remappingFunction);
+        afterWrite(key, now, true);
+        return merged;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        long now = beforeWrite(key);
+        V previous = super.replace(key, value);
+        afterWrite(key, now, true);
+        return previous;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        long now = beforeWrite(key);
+        boolean replaced = super.replace(key, oldValue, newValue);
+        afterWrite(key, now, replaced);
+        return replaced;
+    }
+
+    @Override
+    public V remove(Object key) {
+        cancelTimer(key);
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        boolean removed = super.remove(key, value);
+        if (removed) cancelTimer(key);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        if (wheel != null) {
+            wheel.clear();
+            timers.clear();
+        }
+        super.clear();
+    }
+
+    // Drops every expired entry; get/put already do this, a maintenance
+    // thread can call it (synchronized on the map) while traffic is idle
+    public void cleanUp() {
+        expireEntries();
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (super.removeEldestEntry(eldest)) {
+            cancelTimer(eldest.getKey());
+            return true;
+        }
+        return false;
+    }
+
+    // Advances the wheel, expiring everything due in one batch; returns "now"
+    private long expireEntries() {
+        if (wheel == null) {
+            return 0L;
+        }
+        long now = expiry.now();
+        wheel.advance(now, key -> {
+            timers.remove(key);
+            if (containsKey(key)) {  // Stale if the entry left through a view
+                onEviction(key, super.remove(key));
+            }
+        });
+        return now;
+    }
+
+    private void expire(K key) {
+        wheel.cancel(timers.remove(key));
+        if (containsKey(key)) {
+            onEviction(key, super.remove(key));
+        }
+    }
+
+    // Expires key first if its deadline has passed, so a write never
+    // revives an expired entry; returns "now"
+    private long beforeWrite(K key) {
+        long now = expireEntries();
+        if (wheel != null) {
+            TimerWheel.Timer<K> timer = timers.get(key);
+            if (timer != null && timer.expiresAt() - now <= 0) {
+                expire(key);
+            }
+        }
+        return now;
+    }
+
+    // Gives a present key a deadline (restarted if 'written'), and drops
+    // the timer of a key the write removed (compute/merge returning null)
+    private void afterWrite(K key, long now, boolean written) {
+        if (wheel == null) {
+            return;
+        }
+        TimerWheel.Timer<K> timer = timers.get(key);
+        if (!containsKey(key)) {    // Removed, or evicted straight away (maxSize 0)
+            cancelTimer(key);
+        } else if (timer == null) {
+            timers.put(key, wheel.schedule(key, now + expiry.ttlNanos()));
+        } else if (written) {
+            wheel.reschedule(timer, now + expiry.ttlNanos());
+        }
+    }
+
+    private void cancelTimer(Object key) {
+        if (wheel != null) {
+            TimerWheel.Timer<K> timer = timers.remove(key);
+            if (timer != null) wheel.cancel(timer);
+        }
+    }
+
+    public Expiry expiry() {
+        return expiry;
+    }
+}
@@ -0,0 +1,88 @@
+package collectionsDSA.map;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+// Time-to-live settings for the bounded caches (BoundedCache,
+// LinkedHashMapDSA.CustomLinkedHashMap):
+//
+//   Expiry.afterWrite(Duration.ofMinutes(5))   - TTL restarts on put
+//   Expiry.afterAccess(Duration.ofMinutes(5))  - TTL restarts on get and put
+//
+// Deadlines live in a TimerWheel, and expired entries are removed in batches:
+// - inline: every get/put first advances the wheel (default), or
+// - from one maintenance thread that calls the cache's cleanUp() under the
+//   same lock the cache is used with; reads still never return an expired value
+public final class Expiry {
+    private static final Expiry NONE = new Expiry(0, false, System::nanoTime, Duration.ofMillis(1));
+
+    private final long ttlNanos;
+    private final boolean afterAccess;
+    private final LongSupplier ticker;
+    private final Duration resolution;
+
+    private Expiry(long ttlNanos, boolean afterAccess, LongSupplier ticker, Duration resolution) {
+        this.ttlNanos = ttlNanos;
+        this.afterAccess = afterAccess;
+        this.ticker = ticker;
+        this.resolution = resolution;
+    }
+
+    public static Expiry none() {
+        return NONE;
+    }
+
+    public static Expiry afterWrite(Duration ttl) {
+        return new Expiry(positive(ttl), false, System::nanoTime, Duration.ofMillis(1));
+    }
+
+    public static Expiry afterAccess(Duration ttl) {
+        return new Expiry(positive(ttl), true, System::nanoTime, Duration.ofMillis(1));
+    }
+
+    // Time source in nanoseconds - System::nanoTime unless a test needs a fake clock
+    public Expiry withTicker(LongSupplier ticker) {
+        return new Expiry(ttlNanos, afterAccess, Objects.requireNonNull(ticker), resolution);
+    }
+
+    // Wheel tick: entries expire at most this late. Default 1 ms
+    public Expiry withResolution(Duration resolution) {
+        positive(resolution);
+        return new Expiry(ttlNanos, afterAccess, ticker, resolution);
+    }
+
+    public boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    public boolean isAfterAccess() {
+        return afterAccess;
+    }
+
+    long ttlNanos() {
+        return ttlNanos;
+    }
+
+    long now() {
+        return ticker.getAsLong();
+    }
+
+    // null when expiry is off, so caches without a TTL carry no wheel
+    <K> TimerWheel<K> newWheel() {
+        return isEnabled() ? new TimerWheel<>(resolution.toNanos(), now()) : null;
+    }
+
+    private static long positive(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        return duration.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) return "Expiry{none}";
+        return "Expiry{" + (afterAccess ? "afterAccess=" : "afterWrite=") + Duration.ofNanos(ttlNanos) + "}";
+    }
+}
@@ -0,0 +1,473 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+// Open-addressing HashMap in the SwissTable layout: no Node per entry, each
+// key sits next to its value in one flat array, and a second array of
+// one-byte control words says which slots are full. A lookup touches the
+// control bytes first and only reads a key when its control byte matches;
+// the value is then on the key's cache line. (Separate key and value arrays
+// cost a third cache miss per hit once the map outgrows the caches.)
+//
+// Control byte per slot:
+//
+//   0x80         EMPTY    - never used since the last rehash; ends a probe
+//   0xFE         DELETED  - tombstone; probes continue past it
+//   0x00..0x7F   FULL     - the low 7 bits of the key's hash (h2)
+//
+// Slots come in groups of 8 whose control bytes are one long, so a probe
+// tests 8 slots at once with SWAR bit tricks (SIMD within a register):
+// XOR with h2 broadcast to every byte, then find the zero bytes. The rest
+// of the hash (h1) picks the first group; later groups follow a triangular
+// sequence (+1, +2, +3 ...), which visits every group of a power-of-two
+// table.
+//
+// Load is capped at 7/8 of the slots. A remove writes EMPTY instead of a
+// tombstone when its group still has an EMPTY slot: no probe has ever moved
+// past such a group, so nothing can be lost behind it.
+//
+// Null keys (kept beside the table) and null values are allowed, like
+// HashMap. Not thread-safe. Iteration order is table order.
+public class FlatHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int GROUP = 8;
+    private static final int MAX_CAPACITY = 1 << 29;     // table holds 2 references per slot
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+    private static final long EMPTY_GROUP = MSBS;       // 8 x EMPTY
+    private static final int EMPTY = 0x80;
+    private static final int DELETED = 0xFE;
+
+    private long[] ctrl;              // 8 control bytes per group, slot i in byte i & 7
+    private Object[] table;           // Key of slot i at 2i, its value at 2i + 1
+    private int capacity;
+    private int groupMask;
+    private int size;                 // Entries in the table (excludes the null key)
+    private int growthLeft;           // EMPTY slots that may still be filled before a rehash
+    private boolean hasNullKey;
+    private V nullValue;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public FlatHashMap() {
+        this(0);
+    }
+
+    // Sized so that expectedSize entries fit without a rehash
+    public FlatHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    public FlatHashMap(Map<? extends K, ? extends V> m) {
+        this(m.size());
+        putAll(m);
+    }
+
+    // ---------------------------------------------------------------- Map
+
+    @Override
+    public int size() {
+        return hasNullKey ? size + 1 : size;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key == null) {
+            return nullValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? null : value(slot);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        if (key == null) {
+            return hasNullKey ? nullValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? defaultValue : value(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key == null ? hasNullKey : find(key) >= 0;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            V old = nullValue;
+            nullValue = value;
+            if (!hasNullKey) {
+                hasNullKey = true;
+                modCount++;
+            }
+            return old;
+        }
+        long hash = hash(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            V old = value(slot);
+            table[2 * slot + 1] = value;
+            return old;
+        }
+        insert(key, value, hash);
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key == null) {
+            V old = nullValue;
+            if (hasNullKey) {
+                hasNullKey = false;
+                nullValue = null;
+                modCount++;
+            }
+            return old;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = value(slot);
+        erase(slot);
+        return old;
+    }
+
+    // O(capacity) - the arrays are kept for reuse
+    @Override
+    public void clear() {
+        Arrays.fill(ctrl, EMPTY_GROUP);
+        Arrays.fill(table, null);
+        size = 0;
+        growthLeft = maxLoad(capacity);
+        hasNullKey = false;
+        nullValue = null;
+        modCount++;
+    }
+
+    // No Entry objects, unlike iterating entrySet()
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expected = modCount;
+        if (hasNullKey) {
+            action.accept(null, nullValue);
+        }
+        for (int g = 0; g < ctrl.length; g++) {
+            for (long full = ~ctrl[g] & MSBS; full != 0; full &= full - 1) {
+                int slot = g * GROUP + (Long.numberOfTrailingZeros(full) >>> 3);
+                action.accept((K) table[2 * slot], (V) table[2 * slot + 1]);
+            }
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    // Slots in the table (a power of two, at least 8)
+    public int capacity() {
+        return capacity;
+    }
+
+    // ---------------------------------------------------------------- probing
+
+    // Bits 0-6 are h2 (the control byte), the rest pick the first group
+    private static long hash(Object key) {
+        long z = key.hashCode() * 0x9E3779B97F4A7C15L;
+        return z ^ (z >>> 32);
+    }
+
+    private int find(Object key) {
+        return find(key, hash(key));
+    }
+
+    // Slot of key, or -1
+    private int find(Object key, long hash) {
+        long pattern = LSBS * (hash & 0x7F);
+        int g = (int) (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            long group = ctrl[g];
+            for (long m = matchByte(group, pattern); m != 0; m &= m - 1) {
+                int slot = g * GROUP + (Long.numberOfTrailingZeros(m) >>> 3);
+                Object k = table[2 * slot];
+                if (k == key || (k != null && k.equals(key))) {
+                    return slot;
+                }
+            }
+            if (matchEmpty(group) != 0) {
+                return -1;
+            }
+            g = (g + step) & groupMask;
+        }
+    }
+
+    // key is known to be absent
+    private void insert(Object key, Object value, long hash) {
+        int slot = firstFree(hash);
+        if (growthLeft == 0 && controlByte(slot) == EMPTY) {
+            rehash();
+            slot = firstFree(hash);
+        }
+        if (controlByte(slot) == EMPTY) {
+            growthLeft--;
+        }
+        setControlByte(slot, (int) (hash & 0x7F));
+        table[2 * slot] = key;
+        table[2 * slot + 1] = value;
+        size++;
+        modCount++;
+    }
+
+    // First EMPTY or DELETED slot on key's probe sequence
+    private int firstFree(long hash) {
+        int g = (int) (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            long free = ctrl[g] & MSBS;
+            if (free != 0) {
+                return g * GROUP + (Long.numberOfTrailingZeros(free) >>> 3);
+            }
+            g = (g + step) & groupMask;
+        }
+    }
+
+    private void erase(int slot) {
+        if (matchEmpty(ctrl[slot / GROUP]) != 0) {
+            setControlByte(slot, EMPTY);
+            growthLeft++;
+        } else {
+            setControlByte(slot, DELETED);
+        }
+        table[2 * slot] = null;
+        table[2 * slot + 1] = null;
+        size--;
+        modCount++;
+    }
+
+    // Out of EMPTY slots: double when at least half the load is live
+    // entries, otherwise rebuild at the same size to drop the tombstones
+    private void rehash() {
+        int capacity = this.capacity;
+        if (size >= maxLoad(capacity) / 2) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalStateException("FlatHashMap cannot grow beyond " + MAX_CAPACITY + " slots");
+            }
+            capacity <<= 1;
+        }
+        long[] oldCtrl = ctrl;
+        Object[] old = table;
+        allocate(capacity);
+        for (int g = 0; g < oldCtrl.length; g++) {
+            for (long full = ~oldCtrl[g] & MSBS; full != 0; full &= full - 1) {
+                int from = g * GROUP + (Long.numberOfTrailingZeros(full) >>> 3);
+                long hash = hash(old[2 * from]);
+                int slot = firstFree(hash);
+                setControlByte(slot, (int) (hash & 0x7F));
+                table[2 * slot] = old[2 * from];
+                table[2 * slot + 1] = old[2 * from + 1];
+            }
+        }
+        growthLeft -= size;
+    }
+
+    private void allocate(int capacity) {
+        ctrl = new long[capacity / GROUP];
+        Arrays.fill(ctrl, EMPTY_GROUP);
+        this.capacity = capacity;
+        table = new Object[2 * capacity];
+        groupMask = capacity / GROUP - 1;
+        growthLeft = maxLoad(capacity);
+    }
+
+    // One bit (0x80) per byte of group equal to the broadcast byte in pattern.
+    // A byte just above a real match can be reported too (borrow), never
+    // without one - callers compare the key anyway
+    private static long matchByte(long group, long pattern) {
+        long x = group ^ pattern;
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    // EMPTY (0x80) bytes: the top bit set and bit 1 clear. group << 6 moves
+    // each byte's bit 1 up to its bit 7; DELETED (0xFE) has bit 1 set, full
+    // slots have the top bit clear
+    private static long matchEmpty(long group) {
+        return group & ~(group << 6) & MSBS;
+    }
+
+    private int controlByte(int slot) {
+        return (int) (ctrl[slot / GROUP] >>> ((slot & 7) << 3)) & 0xFF;
+    }
+
+    private void setControlByte(int slot, int value) {
+        int shift = (slot & 7) << 3;
+        int g = slot / GROUP;
+        ctrl[g] = ctrl[g] & ~(0xFFL << shift) | (long) value << shift;
+    }
+
+    // Always leaves at least one EMPTY slot, so every probe terminates
+    private static int maxLoad(int capacity) {
+        return capacity - capacity / 8;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = GROUP;
+        while (maxLoad(capacity) < expectedSize) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many entries: " + expectedSize);
+            }
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) table[2 * slot + 1];
+    }
+
+    // ---------------------------------------------------------------- views
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return FlatHashMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            FlatHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    // Slot -1 stands for the null key
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int next;
+        private int last = -2;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            next = hasNullKey ? -1 : advance(0);
+        }
+
+        private int advance(int from) {
+            for (int slot = from; slot < capacity; slot++) {
+                if (controlByte(slot) < EMPTY) {
+                    return slot;
+                }
+            }
+            return capacity;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < capacity;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (next >= capacity) throw new NoSuchElementException();
+            last = next;
+            next = advance(next + 1);
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -2) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (last == -1) {
+                FlatHashMap.this.remove(null);
+            } else {
+                erase(last);
+            }
+            last = -2;
+            expectedModCount = modCount;
+        }
+    }
+
+    // Key plus a live view of the slot's value, like HashMap's nodes
+    private final class Entry implements Map.Entry<K, V> {
+        private final int slot;
+        private final K key;
+
+        @SuppressWarnings("unchecked")
+        Entry(int slot) {
+            this.slot = slot;
+            this.key = slot < 0 ? null : (K) table[2 * slot];
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return slot < 0 ? nullValue : value(slot);
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = getValue();
+            if (slot < 0) {
+                nullValue = value;
+            } else {
+                table[2 * slot + 1] = value;
+            }
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
+
+/*
+ ============================================================================
+                FLATHASHMAP VS HASHMAP (64-bit JVM, compressed oops)
+ ============================================================================
+
+ | Aspect                  | HashMap                      | FlatHashMap
+ |-------------------------|------------------------------|---------------------------
+ | Storage                 | table of Node chains         | ctrl long[] + key/value Object[]
+ | Per-entry object        | 32 byte Node                 | none
+ | Table bytes per slot    | 4 (reference)                | 1 (ctrl) + 4 (key) + 4 (value)
+ | Max load                | 0.75                         | 0.875
+ | Structure bytes/entry   | ~37-43                       | ~10-21 (depends on fill)
+ | get (hit)               | table -> Node -> key         | ctrl -> key, value (one line)
+ | get (miss)              | table -> Node chain          | usually ctrl only
+ | remove                  | unlink Node                  | EMPTY or tombstone, no moves
+ | Colliding hashCodes     | O(log n) tree bin            | O(n) probe - see SeededHashMap
+ | Iteration               | table + nodes                | scan of ctrl bytes
+
+ ============================================================================
+*/
@@ -0,0 +1,97 @@
+package collectionsDSA.map;
+
+// Count-min sketch of 4-bit counters, used by BoundedCache's W-TinyLFU policy
+// to estimate how often a key has been seen recently (TinyLFU: Einziger,
+// Friedman and Manes, "TinyLFU: A Highly Efficient Cache Admission Policy").
+//
+// - The table is an array of longs, 16 counters each. A key's 64-bit hash
+//   picks DEPTH counters by double hashing (index_i = h1 + i * h2, nibble
+//   from a separate slice of the hash); the estimate is their minimum.
+// - An increment bumps all DEPTH counters. (Conservative update - bumping
+//   only those at the minimum - overestimates less, but on a looping trace
+//   it kept the loop's keys too cold to be admitted: 58% hits against 66%.)
+// - Counters saturate at 15 - popularity only has to be compared, not counted.
+// - Aging: after 10 * capacity increments every counter is halved, so keys
+//   that were hot an hour ago lose to keys that are hot now.
+//
+// Memory is 8 bytes per cached entry (table rounded up to a power of two).
+// Not thread-safe; callers synchronize like they do for the cache itself.
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long LOW_THREE_BITS = 0x7777777777777777L;   // Per nibble, after a shift right
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;  // Increments since the last halving
+
+    FrequencySketch(int capacity) {
+        int length = capacity <= 1 ? 1 : Integer.highestOneBit(Math.min(capacity, 1 << 30) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * Math.max(capacity, 1), Integer.MAX_VALUE);
+    }
+
+    // Estimated recent frequency, 0..15
+    int frequency(Object key) {
+        long hash = hash(key);
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, count(index(hash, i), shift(hash, i)));
+        }
+        return frequency;
+    }
+
+    // Records one occurrence of the key - O(1)
+    void increment(Object key) {
+        long hash = hash(key);
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = index(hash, i);
+            int shift = shift(hash, i);
+            if (count(index, shift) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++size == sampleSize) {   // Saturated keys do not age the sample
+            halve();
+        }
+    }
+
+    private int count(int index, int shift) {
+        return (int) (table[index] >>> shift) & MAX_COUNT;
+    }
+
+    // Every counter divided by two (the low bit of each nibble is dropped);
+    // the sample restarts at half, as the counts it reflects were halved
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & LOW_THREE_BITS;
+        }
+        size = sampleSize >>> 1;
+    }
+
+    // Row i's long: h1 + i * h2 over the low and high halves (h2 odd, so the
+    // rows differ for any table size)
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + i * h2) & tableMask;
+    }
+
+    // Row i's nibble inside that long, from bits 40.. of the hash
+    private static int shift(long hash, int i) {
+        return ((int) (hash >>> (40 + (i << 2))) & 15) << 2;
+    }
+
+    // SplitMix64 finalizer over the hashCode: weak hashCodes (small
+    // Integers, sequential ids) still spread over every bit
+    private static long hash(Object key) {
+        long z = key.hashCode() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -123,6 +123,15 @@ public class HashMapDSA {
         mergeMap.merge("country", "USA", (oldVal, newVal) -> oldVal + newVal);
         System.out.println("After merge: " + mergeMap);
         
+        // Counters keyed by numeric ids: LongLongMap adds in place, where
+        // merge(id, 1L, Long::sum) on a HashMap boxes a new Long per increment
+        LongLongMap hitsById = new LongLongMap();
+        long[] requestIds = {1001, 1002, 1001, 1003, 1001, 1002};
+        for (long id : requestIds) {
+            hitsById.addTo(id, 1);
+        }
+        System.out.println("Hits by id: " + hitsById);
+        
         // 7. GET OR DEFAULT
         
         HashMap<String, Integer> defaultMap = new HashMap<>();
@@ -161,6 +170,13 @@ public class HashMapDSA {
         System.out.println("Text: " + text);
         System.out.println("Word counts: " + wordCount);
         
+        // FlatHashMap is a drop-in Map without a Node object per entry
+        Map<String, Integer> flatWordCount = new FlatHashMap<>();
+        for (String word : words) {
+            flatWordCount.merge(word, 1, Integer::sum);
+        }
+        System.out.println("FlatHashMap word counts equal: " + flatWordCount.equals(wordCount));
+        
         // 10. HASH COLLISION DEMONSTRATION
         
         System.out.println("\n=== Hash Collision Handling ===");
@@ -181,6 +197,18 @@ public class HashMapDSA {
         // Even with same hash, different keys are stored separately
         System.out.println("Get key1: " + collisionMap.get(key1));
         System.out.println("Get key2: " + collisionMap.get(key2));
+
+        // HashMap scans the whole chain for these keys (they are not
+        // Comparable, so its tree bins cannot order them). SeededHashMap
+        // treeifies the hot bucket by a seeded hash of the key content.
+        SeededHashMap<BadHashKey, String> seededMap =
+                new SeededHashMap<>((key, k0, k1) -> SeededHashMap.sipHash(key.value, k0, k1));
+        for (int i = 0; i < 1000; i++) {
+            seededMap.put(new BadHashKey("key" + i), "value" + i);
+        }
+        System.out.println("SeededHashMap with 1000 colliding keys: tree bins = "
+                + seededMap.treeBins() + ", largest bucket = " + seededMap.maxBucketSize());
+        System.out.println("Get key999: " + seededMap.get(new BadHashKey("key999")));
     }
     
     // Helper class to demonstrate hash collisions
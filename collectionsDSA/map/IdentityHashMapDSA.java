@@ -200,6 +200,8 @@ public class IdentityHashMapDSA {
         System.out.println("After computeIfAbsent: " + computeMap);  // Size becomes 2!
         
         // 10. PERFORMANCE COMPARISON DEMONSTRATION
+        // Single-shot timing, no warmup - shows the shape only. Real numbers:
+        // benchmarks/src/main/java/collectionsDSA/benchmarks/map/IdentityHashMapBenchmark.java
         
         System.out.println("\n=== Performance Characteristics ===");
         
@@ -0,0 +1,85 @@
+package collectionsDSA.map;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// LinkedHashMap bounded to maxSize entries that reports hits, misses,
+// evictions and get/put latency to a CacheStats, and every entry it drops to
+// an optional eviction listener. The LRU caches in LinkedHashMapDSA and
+// LinkedHashSetDSA (access order) and ExpiringLinkedHashMap (TTL) extend it
+// instead of each repeating the same overrides.
+//
+// get() and put() do the recording; subclasses that change what a lookup or
+// a write does (expiry) override lookup() / store(), so their work is timed
+// and counted exactly once.
+public class InstrumentedLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+    private final CacheStats stats;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+
+    // stats: CacheStats.disabled() / counters() / withLatency(); listener may be null
+    public InstrumentedLinkedHashMap(int initialCapacity, boolean accessOrder, int maxSize,
+                                     CacheStats stats, BiConsumer<? super K, ? super V> evictionListener) {
+        super(initialCapacity, 0.75f, accessOrder);
+        this.maxSize = maxSize;
+        this.stats = stats;
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public V get(Object key) {
+        long start = stats.startTimer();
+        V value = lookup(key);
+        if (stats.isEnabled()) {
+            // A null return is a miss unless the key maps to null; with stats
+            // on, telling them apart costs every miss a containsKey lookup
+            if (value != null || containsKey(key)) stats.recordHit();
+            else stats.recordMiss();
+            stats.recordGetLatency(start);
+        }
+        return value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        long start = stats.startTimer();
+        V previous = store(key, value);
+        stats.recordPutLatency(start);
+        return previous;
+    }
+
+    // The lookup behind get(); an entry it removes (expired) counts as a miss
+    protected V lookup(Object key) {
+        return super.get(key);
+    }
+
+    // The write behind put()
+    protected V store(K key, V value) {
+        return super.put(key, value);
+    }
+
+    // Evicts the eldest entry (least recently used in access order) past maxSize
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (size() > maxSize) {
+            onEviction(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+        return false;
+    }
+
+    // Counts an entry the cache dropped on its own and tells the listener
+    protected void onEviction(K key, V value) {
+        stats.recordEviction();
+        if (evictionListener != null) {
+            evictionListener.accept(key, value);
+        }
+    }
+
+    public CacheStats stats() {
+        return stats;
+    }
+}
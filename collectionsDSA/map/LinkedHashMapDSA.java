@@ -1,6 +1,8 @@
 package collectionsDSA.map;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class LinkedHashMapDSA {
     public static void main(String[] args) {
@@ -136,6 +138,27 @@ public class LinkedHashMapDSA {
         lruCache.put("E", 5);
         System.out.println("After adding E (C evicted): " + lruCache);
         
+        // Same contract off the heap - entries live in direct ByteBuffers,
+        // bounded by entry count AND bytes (2 x 64-byte blocks here)
+        OffHeapLRUCache<String, String> offHeapCache = new OffHeapLRUCache<>(
+            3, 128, OffHeapLRUCache.Codec.STRING, OffHeapLRUCache.Codec.STRING);
+        offHeapCache.put("A", "1");
+        offHeapCache.put("B", "2");
+        offHeapCache.get("A");          // A becomes most recently used
+        offHeapCache.put("C", "3");     // Byte bound reached - B evicted
+        System.out.println("Off-heap cache (eldest first): " + offHeapCache
+            + ", bytes used: " + offHeapCache.bytesUsed() + "/" + offHeapCache.maxBytes());
+        
+        // Thread-safe LRU - lock-free reads, accesses applied to the list in batches
+        // (Collections.synchronizedMap(lruCache) would serialize every get())
+        ConcurrentLRUCache<String, Integer> concurrentCache = new ConcurrentLRUCache<>(3);
+        concurrentCache.put("A", 1);
+        concurrentCache.put("B", 2);
+        concurrentCache.put("C", 3);
+        concurrentCache.get("A");          // A becomes most recently used
+        concurrentCache.put("D", 4);       // B evicted
+        System.out.println("Concurrent LRU cache (eldest first): " + concurrentCache);
+        
         // 8. COMPUTE OPERATIONS (Java 8+)
         
         LinkedHashMap<String, Integer> computeMap = new LinkedHashMap<>();
@@ -182,37 +205,92 @@ public class LinkedHashMapDSA {
         
         customCache.put("Item5", 5);  // Should trigger removal
         System.out.println("After adding Item5: " + customCache);
+        
+        // 11. CACHE STATISTICS AND EVICTION LISTENER
+        
+        System.out.println("\n=== Cache Statistics ===");
+        LRUCache<String, Integer> statsCache = new LRUCache<>(2, CacheStats.withLatency(),
+            (key, value) -> System.out.println("Evicted: " + key + "=" + value));
+        
+        statsCache.put("A", 1);
+        statsCache.put("B", 2);
+        statsCache.get("A");   // Hit
+        statsCache.get("Z");   // Miss
+        statsCache.put("C", 3);  // Evicts B (least recently used)
+        statsCache.get("B");   // Miss
+        
+        // Snapshot reads LongAdders - no lock on the cache
+        CacheStats.Snapshot snapshot = statsCache.stats().snapshot();
+        System.out.println("Hits: " + snapshot.hitCount() + ", Misses: " + snapshot.missCount()
+            + ", Evictions: " + snapshot.evictionCount() + ", Hit rate: " + snapshot.hitRate());
+        System.out.println("Get latency: " + snapshot.getLatency());
+        
+        // 12. EVICTION POLICY: LRU VS W-TINYLFU
+        
+        System.out.println("\n=== LRU vs W-TinyLFU (scan resistance) ===");
+        for (BoundedCache.Policy policy : BoundedCache.Policy.values()) {
+            BoundedCache<Integer, Integer> bounded = new BoundedCache<>(100, policy, CacheStats.counters(), null);
+            for (int round = 0; round < 20; round++) {
+                for (int key = 0; key < 50; key++) {           // Hot set, fits in the cache
+                    if (bounded.get(key) == null) bounded.put(key, key);
+                }
+                for (int i = 0; i < 200; i++) {                // One-off scan keys
+                    int key = 1000 + round * 200 + i;
+                    if (bounded.get(key) == null) bounded.put(key, key);
+                }
+            }
+            System.out.printf("%-10s hit rate: %.2f%n", policy, bounded.stats().snapshot().hitRate());
+        }
+        
+        // 13. TIME-BASED EXPIRY (TIMER WHEEL)
+        
+        System.out.println("\n=== Expire After Write ===");
+        CustomLinkedHashMap<String, String> sessions = new CustomLinkedHashMap<>(1000,
+            Expiry.afterWrite(Duration.ofMillis(50)), CacheStats.counters(),
+            (key, value) -> System.out.println("Expired: " + key));
+        
+        sessions.put("session-1", "alice");
+        sessions.put("session-2", "bob");
+        System.out.println("Before TTL: " + sessions.get("session-1"));
+        
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        // No sweep thread: this get() advances the wheel and expires both entries
+        System.out.println("After TTL: " + sessions.get("session-1") + ", size: " + sessions.size());
     }
     
     // LRU Cache implementation using LinkedHashMap
-    static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-        private final int capacity;
-        
+    // (stats, listener and eviction past capacity: InstrumentedLinkedHashMap)
+    static class LRUCache<K, V> extends InstrumentedLinkedHashMap<K, V> {
         public LRUCache(int capacity) {
-            // Access order enabled (third parameter = true)
-            super(capacity, 0.75f, true);
-            this.capacity = capacity;
+            this(capacity, CacheStats.disabled(), null);
         }
         
-        // Override removeEldestEntry to implement LRU eviction
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-            return size() > capacity;
+        // stats: CacheStats.counters() / withLatency(); listener may be null
+        public LRUCache(int capacity, CacheStats stats, BiConsumer<? super K, ? super V> evictionListener) {
+            // Access order enabled (second parameter = true)
+            super(capacity, true, capacity, stats, evictionListener);
         }
     }
     
-    // Custom LinkedHashMap with size-based eviction
-    static class CustomLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
-        private final int maxSize;
-        
+    // Custom LinkedHashMap with size-based eviction and optional TTL
+    // (insertion order; expiry, stats and listener: ExpiringLinkedHashMap)
+    static class CustomLinkedHashMap<K, V> extends ExpiringLinkedHashMap<K, V> {
         public CustomLinkedHashMap(int maxSize) {
-            super(16, 0.75f, false);  // Insertion order
-            this.maxSize = maxSize;
+            this(maxSize, Expiry.none(), CacheStats.disabled(), null);
+        }
+        
+        public CustomLinkedHashMap(int maxSize, CacheStats stats, BiConsumer<? super K, ? super V> evictionListener) {
+            this(maxSize, Expiry.none(), stats, evictionListener);
         }
         
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-            return size() > maxSize;
+        public CustomLinkedHashMap(int maxSize, Expiry expiry, CacheStats stats,
+                                   BiConsumer<? super K, ? super V> evictionListener) {
+            super(16, false, maxSize, expiry, stats, evictionListener);  // Insertion order
         }
     }
 }
@@ -329,7 +407,11 @@ public class LinkedHashMapDSA {
  9. Iterator behavior and fail-fast guarantees
  10. Use cases for access-order vs insertion-order
  11. Cache eviction policies with LinkedHashMap
+     (measure them: hit rate / evictions via CacheStats, eviction listener;
+     scan-heavy traffic: BoundedCache with Policy.W_TINY_LFU;
+     TTLs: Expiry.afterWrite/afterAccess backed by a TimerWheel)
  12. Integration with Collections.synchronizedMap()
+     (and why it serializes reads in access order - see ConcurrentLRUCache)
 
  ============================================================================
                     PERFORMANCE CHARACTERISTICS
@@ -368,6 +450,7 @@ public class LinkedHashMapDSA {
  8. Profile performance impact of ordering maintenance
  9. Monitor memory usage due to linked list overhead
  10. Consider HashMap + separate ordering structure for complex scenarios
+     (e.g. OffHeapLRUCache keeps LRU order in int[] links, data off-heap)
  11. Use appropriate load factor for performance tuning
  12. Document ordering requirements for maintenance
 
@@ -0,0 +1,303 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+// Open-addressing long -> long map with linear probing, for counters and
+// sums keyed by numeric ids. Each key is stored next to its value in one
+// long[] (key at 2i, value at 2i + 1), so a slot costs 16 bytes and a hit
+// touches one cache line. No Long boxes, no HashMap.Node: about 21-43 bytes
+// per entry against ~85-91 for HashMap<Long, Long>.
+//
+// Key 0 marks an empty slot; the key 0 itself is kept beside the table.
+// Missing keys read as 0 from get(), which is what a counter wants; use
+// containsKey() or getOrDefault() to tell "absent" from "0".
+//
+// addTo, merge, computeIfAbsent and computeIfPresent look the key up once
+// and allocate nothing (non-capturing lambdas are constants). Not
+// thread-safe; see IntIntMap and LongObjectMap for the other shapes.
+public class LongLongMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 29;     // 2 longs per slot
+
+    // Receives each entry in forEach
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private final float loadFactor;
+    private long[] table;
+    private int mask;         // Slots - 1
+    private int size;         // Keys stored in table (excludes the zero key)
+    private int threshold;
+    private boolean hasZero;
+    private long zeroValue;
+
+    public LongLongMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    // Sized so that expectedSize keys fit without a rehash
+    public LongLongMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongLongMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor)));
+    }
+
+    // Value of key, or 0 - O(1) average
+    public long get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == 0) return hasZero ? zeroValue : defaultValue;
+        int i = slot(key);
+        return table[i << 1] == key ? table[(i << 1) + 1] : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) return hasZero;
+        return table[slot(key) << 1] == key;
+    }
+
+    // Returns the previous value, or 0 if the key was absent
+    public long put(long key, long value) {
+        if (key == 0) {
+            long old = zeroValue;
+            hasZero = true;
+            zeroValue = value;
+            return old;
+        }
+        int i = slot(key);
+        if (table[i << 1] == key) {
+            long old = table[(i << 1) + 1];
+            table[(i << 1) + 1] = value;
+            return old;
+        }
+        insert(i, key, value);
+        return 0;
+    }
+
+    // Adds delta to the key's value (absent = 0) and returns the new value.
+    // The counter increment: one probe, no allocation
+    public long addTo(long key, long delta) {
+        if (key == 0) {
+            hasZero = true;
+            return zeroValue += delta;
+        }
+        int i = slot(key);
+        if (table[i << 1] == key) {
+            return table[(i << 1) + 1] += delta;
+        }
+        insert(i, key, delta);
+        return delta;
+    }
+
+    // Stores value if the key is absent, else remap(old, value); returns
+    // the new value. Unlike Map.merge there is no "null removes"
+    public long merge(long key, long value, LongBinaryOperator remap) {
+        if (key == 0) {
+            zeroValue = hasZero ? remap.applyAsLong(zeroValue, value) : value;
+            hasZero = true;
+            return zeroValue;
+        }
+        int i = slot(key);
+        if (table[i << 1] == key) {
+            return table[(i << 1) + 1] = remap.applyAsLong(table[(i << 1) + 1], value);
+        }
+        insert(i, key, value);
+        return value;
+    }
+
+    // Returns the key's value, first storing mapping(key) if it is absent.
+    // mapping must not modify this map
+    public long computeIfAbsent(long key, LongUnaryOperator mapping) {
+        if (key == 0) {
+            if (!hasZero) {
+                zeroValue = mapping.applyAsLong(0);
+                hasZero = true;
+            }
+            return zeroValue;
+        }
+        int i = slot(key);
+        if (table[i << 1] == key) {
+            return table[(i << 1) + 1];
+        }
+        long value = mapping.applyAsLong(key);
+        insert(i, key, value);
+        return value;
+    }
+
+    // Replaces a present key's value with remap(key, old); returns the new
+    // value, or 0 (and changes nothing) if the key is absent
+    public long computeIfPresent(long key, LongBinaryOperator remap) {
+        if (key == 0) {
+            return hasZero ? (zeroValue = remap.applyAsLong(0, zeroValue)) : 0;
+        }
+        int i = slot(key);
+        if (table[i << 1] != key) {
+            return 0;
+        }
+        return table[(i << 1) + 1] = remap.applyAsLong(key, table[(i << 1) + 1]);
+    }
+
+    // Remove - O(1) average, backward shift instead of tombstones
+    public boolean remove(long key) {
+        if (key == 0) {
+            boolean had = hasZero;
+            hasZero = false;
+            zeroValue = 0;
+            return had;
+        }
+        int i = slot(key);
+        if (table[i << 1] != key) {
+            return false;
+        }
+        shiftBack(i);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return hasZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // O(capacity) - table is kept for reuse
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+        hasZero = false;
+        zeroValue = 0;
+    }
+
+    // Iteration order is table order, not insertion order (like HashMap)
+    public void forEach(EntryConsumer action) {
+        if (hasZero) action.accept(0, zeroValue);
+        long[] tab = table;
+        for (int i = 0; i < tab.length; i += 2) {
+            if (tab[i] != 0) action.accept(tab[i], tab[i + 1]);
+        }
+    }
+
+    // Slot holding key, or the empty slot where it would go
+    private int slot(long key) {
+        long[] tab = table;
+        int i = mix(key) & mask;
+        long k;
+        while ((k = tab[i << 1]) != 0 && k != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insert(int i, long key, long value) {
+        table[i << 1] = key;
+        table[(i << 1) + 1] = value;
+        if (++size > threshold) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    // Close the gap at 'hole' by pulling back later entries of the same cluster
+    // whose home slot is at or before the hole
+    private void shiftBack(int hole) {
+        long[] tab = table;
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = tab[i << 1];
+            if (key == 0) break;
+            int home = mix(key) & mask;
+            // Distance from home to i vs hole to i, both measured cyclically
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                tab[hole << 1] = key;
+                tab[(hole << 1) + 1] = tab[(i << 1) + 1];
+                hole = i;
+            }
+        }
+        tab[hole << 1] = 0;
+        tab[(hole << 1) + 1] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY || newCapacity <= 0) {
+            throw new IllegalStateException("LongLongMap cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        long[] old = table;
+        allocate(newCapacity);
+        long[] tab = table;
+        for (int j = 0; j < old.length; j += 2) {
+            long key = old[j];
+            if (key != 0) {
+                int i = mix(key) & mask;
+                while (tab[i << 1] != 0) {
+                    i = (i + 1) & mask;
+                }
+                tab[i << 1] = key;
+                tab[(i << 1) + 1] = old[j + 1];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity << 1];
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    // Fibonacci hashing folded to 32 bits - sequential ids would otherwise
+    // fill one long run
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(long capacity) {
+        if (capacity >= MAX_CAPACITY) return MAX_CAPACITY;
+        int n = Integer.highestOneBit((int) Math.max(capacity - 1, 1)) << 1;
+        return Math.max(n, 2);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
+
+/*
+ ============================================================================
+                 LONGLONGMAP VS HASHMAP<LONG, LONG>
+ ============================================================================
+
+ | Operation             | LongLongMap    | HashMap<Long, Long> | Notes
+ |-----------------------|----------------|---------------------|------
+ | get / containsKey     | O(1) average   | O(1) average        | No unboxing, key and value on one line
+ | put                   | O(1) average   | O(1) average        | No Node, no Long boxes
+ | addTo(key, 1)         | O(1), 0 bytes  | merge(k, 1L, Long::sum): O(1), a new Long per call
+ | remove                | O(1) average   | O(1) average        | Backward shift, no tombstones
+ | worst case            | O(n)           | O(log n)            | HashMap treeifies long chains; this does not
+
+ Memory per entry (64-bit JVM, compressed oops, load factor 0.75):
+ - LongLongMap:         16 bytes per slot, 1.33-2.67 slots per key    = ~21-43 bytes
+ - HashMap<Long, Long>: 32 byte Node + 2 x 24 byte Long + 5-11 bytes of table = ~85-91 bytes
+
+ ============================================================================
+*/
@@ -0,0 +1,291 @@
+package collectionsDSA.map;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+// Open-addressing long -> V map with linear probing, for objects keyed by
+// numeric ids (sessions, accounts, graph nodes). Keys sit in a long[] and
+// values in a parallel Object[] - one array cannot hold both - so a slot
+// costs 12 bytes and no Long key or HashMap.Node is ever allocated.
+//
+// Key 0 marks an empty slot; the key 0 itself is kept beside the table.
+// Null values are not stored: get() returns null for "absent", like
+// HashMap, and put(key, null) removes the key.
+//
+// computeIfAbsent and merge look the key up once. Not thread-safe.
+public class LongObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Receives each entry in forEach
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private final float loadFactor;
+    private long[] keys;
+    private Object[] values;
+    private int mask;         // Slots - 1
+    private int size;         // Keys stored in the table (excludes the zero key)
+    private int threshold;
+    private V zeroValue;      // Non-null when the key 0 is present
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    // Sized so that expectedSize keys fit without a rehash
+    public LongObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongObjectMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor)));
+    }
+
+    // Value of key, or null - O(1) average
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) return zeroValue;
+        int i = slot(key);
+        return keys[i] == key ? (V) values[i] : null;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    // Returns the previous value or null; a null value removes the key
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            return remove(key);
+        }
+        if (key == 0) {
+            V old = zeroValue;
+            zeroValue = value;
+            return old;
+        }
+        int i = slot(key);
+        if (keys[i] == key) {
+            V old = (V) values[i];
+            values[i] = value;
+            return old;
+        }
+        insert(i, key, value);
+        return null;
+    }
+
+    // Returns the key's value, first storing mapping(key) if it is absent;
+    // a null result stores nothing. mapping must not modify this map
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> mapping) {
+        if (key == 0) {
+            if (zeroValue == null) {
+                zeroValue = mapping.apply(0);
+            }
+            return zeroValue;
+        }
+        int i = slot(key);
+        if (keys[i] == key) {
+            return (V) values[i];
+        }
+        V value = mapping.apply(key);
+        if (value != null) {
+            insert(i, key, value);
+        }
+        return value;
+    }
+
+    // Stores value if the key is absent, else remap(old, value); a null
+    // result removes the key, like Map.merge. Returns the new value
+    @SuppressWarnings("unchecked")
+    public V merge(long key, V value, BiFunction<? super V, ? super V, ? extends V> remap) {
+        Objects.requireNonNull(value);
+        if (key == 0) {
+            zeroValue = zeroValue == null ? value : remap.apply(zeroValue, value);
+            return zeroValue;
+        }
+        int i = slot(key);
+        if (keys[i] != key) {
+            insert(i, key, value);
+            return value;
+        }
+        V merged = remap.apply((V) values[i], value);
+        if (merged == null) {
+            shiftBack(i);
+            size--;
+        } else {
+            values[i] = merged;
+        }
+        return merged;
+    }
+
+    // Remove - O(1) average, backward shift instead of tombstones. Returns
+    // the removed value or null
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            V old = zeroValue;
+            zeroValue = null;
+            return old;
+        }
+        int i = slot(key);
+        if (keys[i] != key) {
+            return null;
+        }
+        V old = (V) values[i];
+        shiftBack(i);
+        size--;
+        return old;
+    }
+
+    public int size() {
+        return zeroValue != null ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // O(capacity) - arrays are kept for reuse
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        zeroValue = null;
+    }
+
+    // Iteration order is table order, not insertion order (like HashMap)
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (zeroValue != null) action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    // Slot holding key, or the empty slot where it would go
+    private int slot(long key) {
+        long[] ks = keys;
+        int i = mix(key) & mask;
+        long k;
+        while ((k = ks[i]) != 0 && k != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insert(int i, long key, V value) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    // Close the gap at 'hole' by pulling back later entries of the same cluster
+    // whose home slot is at or before the hole
+    private void shiftBack(int hole) {
+        long[] ks = keys;
+        Object[] vs = values;
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = ks[i];
+            if (key == 0) break;
+            int home = mix(key) & mask;
+            // Distance from home to i vs hole to i, both measured cyclically
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                ks[hole] = key;
+                vs[hole] = vs[i];
+                hole = i;
+            }
+        }
+        ks[hole] = 0;
+        vs[hole] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY || newCapacity <= 0) {
+            throw new IllegalStateException("LongObjectMap cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        long[] ks = keys;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != 0) {
+                int i = mix(key) & mask;
+                while (ks[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                ks[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    // Fibonacci hashing folded to 32 bits - sequential ids would otherwise
+    // fill one long run
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(long capacity) {
+        if (capacity >= MAX_CAPACITY) return MAX_CAPACITY;
+        int n = Integer.highestOneBit((int) Math.max(capacity - 1, 1)) << 1;
+        return Math.max(n, 2);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
+
+/*
+ ============================================================================
+                   LONGOBJECTMAP VS HASHMAP<LONG, V>
+ ============================================================================
+
+ | Operation             | LongObjectMap  | HashMap<Long, V> | Notes
+ |-----------------------|----------------|------------------|------
+ | get / containsKey     | O(1) average   | O(1) average     | No Long box to build for the lookup
+ | put                   | O(1) average   | O(1) average     | No Node, no Long key
+ | computeIfAbsent       | O(1), 1 probe  | O(1)             | Only the value is allocated (by the caller's function)
+ | remove                | O(1) average   | O(1) average     | Backward shift, no tombstones
+ | null values           | not stored     | allowed          | put(key, null) removes the key
+
+ Memory per entry, values excluded (64-bit JVM, compressed oops, load factor 0.75):
+ - LongObjectMap:    12 bytes per slot, 1.33-2.67 slots per key            = ~16-32 bytes
+ - HashMap<Long, V>: 32 byte Node + 24 byte Long + 5-11 bytes of table     = ~61-67 bytes
+
+ ============================================================================
+*/
@@ -0,0 +1,540 @@
+package collectionsDSA.map;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Off-heap counterpart of LinkedHashMapDSA.LRUCache: same get/put/evict
+// behaviour (access order, eldest evicted first), but the GC only ever sees a
+// handful of large arrays instead of one LinkedHashMap.Entry per mapping.
+//
+// Layout:
+// - Key and value bytes live in direct ByteBuffer slabs, cut into fixed-size
+//   blocks. An entry takes as many blocks as it needs, chained by an int[];
+//   freed blocks go back to one shared free list, so there is no fragmentation
+//   and the byte bound is exact (waste is under one block per entry).
+// - Per-entry metadata (hash, lengths, first block, LRU prev/next, hash chain)
+//   is a set of parallel int[] indexed by entry number - no Node objects.
+// - Keys are compared by their encoded bytes, so two keys are "equal" when
+//   their codec produces the same bytes.
+//
+// Not thread-safe, same as LRUCache.
+public class OffHeapLRUCache<K, V> {
+    private static final int NIL = -1;
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+    private static final int SLAB_BYTES = 1 << 20;  // 1 MiB direct buffers
+    private static final int INITIAL_ENTRIES = 16;
+
+    // Converts keys/values to and from bytes
+    public interface Codec<T> {
+        byte[] encode(T value);
+
+        T decode(byte[] bytes);
+
+        Codec<String> STRING = new Codec<>() {
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        Codec<Integer> INTEGER = new Codec<>() {
+            @Override
+            public byte[] encode(Integer value) {
+                return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+            }
+
+            @Override
+            public Integer decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+
+        Codec<Long> LONG = new Codec<>() {
+            @Override
+            public byte[] encode(Long value) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+            }
+
+            @Override
+            public Long decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        };
+
+        Codec<byte[]> BYTES = new Codec<>() {
+            @Override
+            public byte[] encode(byte[] value) {
+                return value;
+            }
+
+            @Override
+            public byte[] decode(byte[] bytes) {
+                return bytes;
+            }
+        };
+    }
+
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // Block storage
+    private final int blockSize;
+    private final int blockShift;
+    private final int blocksPerSlabShift;
+    private final int totalBlocks;
+    private ByteBuffer[] slabs = new ByteBuffer[0];
+    private int[] blockNext = new int[0];  // chain within an entry, or free list
+    private int carvedBlocks;              // high-water mark of blocks ever handed out
+    private int freeBlockHead = NIL;
+    private int usedBlocks;
+    private final byte[] scratch;
+
+    // Entry metadata, all indexed by entry number
+    private int[] entryHash = new int[0];
+    private int[] entryKeyLength = new int[0];
+    private int[] entryValueLength = new int[0];
+    private int[] entryFirstBlock = new int[0];
+    private int[] before = new int[0];      // LRU list, towards eldest
+    private int[] after = new int[0];       // LRU list, towards youngest; free list when unused
+    private int[] chainNext = new int[0];   // hash bucket chain
+    private int freeEntryHead = NIL;
+    private int carvedEntries;
+
+    private int[] buckets;
+    private int head = NIL;  // eldest (next to evict)
+    private int tail = NIL;  // youngest (most recently used)
+    private int size;
+    private long evictions;
+
+    public OffHeapLRUCache(int maxEntries, long maxBytes, Codec<K> keyCodec, Codec<V> valueCodec) {
+        this(maxEntries, maxBytes, DEFAULT_BLOCK_SIZE, keyCodec, valueCodec);
+    }
+
+    // blockSize must be a power of two between 16 and 64 KiB. Smaller blocks
+    // waste less per entry, larger blocks mean fewer hops per read
+    public OffHeapLRUCache(int maxEntries, long maxBytes, int blockSize, Codec<K> keyCodec, Codec<V> valueCodec) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        if (Integer.bitCount(blockSize) != 1 || blockSize < 16 || blockSize > (1 << 16)) {
+            throw new IllegalArgumentException("blockSize must be a power of two in [16, 65536]: " + blockSize);
+        }
+        if (maxBytes < blockSize || maxBytes / blockSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("maxBytes out of range: " + maxBytes);
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.keyCodec = Objects.requireNonNull(keyCodec);
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.blockSize = blockSize;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        this.blocksPerSlabShift = Integer.numberOfTrailingZeros(Math.max(SLAB_BYTES, blockSize)) - blockShift;
+        this.totalBlocks = (int) (maxBytes / blockSize);
+        this.scratch = new byte[blockSize];
+        this.buckets = newBuckets(INITIAL_ENTRIES * 2);
+    }
+
+    // Lookup - O(1) average + O(bytes) to compare and decode; moves the entry
+    // to the youngest end, like LinkedHashMap in access order
+    public V get(K key) {
+        byte[] keyBytes = keyCodec.encode(key);
+        int entry = find(keyBytes, hash(keyBytes));
+        if (entry == NIL) {
+            return null;
+        }
+        moveToTail(entry);
+        return valueCodec.decode(read(entry, entryKeyLength[entry], entryValueLength[entry]));
+    }
+
+    // Existence check - does not count as an access, same as LinkedHashMap
+    public boolean containsKey(K key) {
+        byte[] keyBytes = keyCodec.encode(key);
+        return find(keyBytes, hash(keyBytes)) != NIL;
+    }
+
+    // Insert or replace - O(1) average + O(bytes). Evicts eldest entries until
+    // both the entry bound and the byte bound hold. Returns the previous value
+    public V put(K key, V value) {
+        byte[] keyBytes = keyCodec.encode(key);
+        byte[] valueBytes = valueCodec.encode(value);
+        int needed = blocksFor((long) keyBytes.length + valueBytes.length);
+        if (needed > totalBlocks) {
+            throw new IllegalArgumentException("Entry of " + (keyBytes.length + valueBytes.length)
+                    + " bytes exceeds cache capacity of " + maxBytes + " bytes");
+        }
+        int hash = hash(keyBytes);
+        int entry = find(keyBytes, hash);
+        V previous = null;
+
+        if (entry != NIL) {
+            // Replace in place: release the old bytes, keep the entry number
+            previous = valueCodec.decode(read(entry, entryKeyLength[entry], entryValueLength[entry]));
+            moveToTail(entry);
+            freeBlocks(entryFirstBlock[entry]);
+            entryFirstBlock[entry] = NIL;
+            usedBlocks -= blocksFor((long) entryKeyLength[entry] + entryValueLength[entry]);
+            evictUntil(needed, entry);
+        } else {
+            evictUntil(needed, NIL);
+            if (size >= maxEntries) {
+                evictEldest();
+            }
+            entry = newEntry();
+            entryHash[entry] = hash;
+            link(entry);
+            linkTail(entry);
+            size++;
+        }
+
+        entryKeyLength[entry] = keyBytes.length;
+        entryValueLength[entry] = valueBytes.length;
+        entryFirstBlock[entry] = write(keyBytes, valueBytes, needed);
+        return previous;
+    }
+
+    // Remove - O(1) average, returns the removed value
+    public V remove(K key) {
+        byte[] keyBytes = keyCodec.encode(key);
+        int entry = find(keyBytes, hash(keyBytes));
+        if (entry == NIL) {
+            return null;
+        }
+        V value = valueCodec.decode(read(entry, entryKeyLength[entry], entryValueLength[entry]));
+        release(entry);
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Bytes reserved in blocks (what the byte bound is checked against)
+    public long bytesUsed() {
+        return (long) usedBlocks << blockShift;
+    }
+
+    // Direct memory allocated so far; slabs are allocated lazily
+    public long bytesAllocated() {
+        return (long) slabs.length * ((long) 1 << (blocksPerSlabShift + blockShift));
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long evictionCount() {
+        return evictions;
+    }
+
+    // Drops all entries and lets the direct buffers be reclaimed
+    public void clear() {
+        slabs = new ByteBuffer[0];
+        blockNext = new int[0];
+        carvedBlocks = 0;
+        freeBlockHead = NIL;
+        usedBlocks = 0;
+        entryHash = new int[0];
+        entryKeyLength = new int[0];
+        entryValueLength = new int[0];
+        entryFirstBlock = new int[0];
+        before = new int[0];
+        after = new int[0];
+        chainNext = new int[0];
+        freeEntryHead = NIL;
+        carvedEntries = 0;
+        buckets = newBuckets(INITIAL_ENTRIES * 2);
+        head = tail = NIL;
+        size = 0;
+    }
+
+    // Keys from eldest to youngest - the eviction order
+    public List<K> keys() {
+        List<K> keys = new ArrayList<>(size);
+        for (int e = head; e != NIL; e = after[e]) {
+            keys.add(keyCodec.decode(read(e, 0, entryKeyLength[e])));
+        }
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int e = head; e != NIL; e = after[e]) {
+            if (e != head) sb.append(", ");
+            sb.append(keyCodec.decode(read(e, 0, entryKeyLength[e])))
+              .append('=')
+              .append(valueCodec.decode(read(e, entryKeyLength[e], entryValueLength[e])));
+        }
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- eviction
+
+    // Evict eldest entries until 'needed' more blocks fit; never evicts 'keep'
+    private void evictUntil(int needed, int keep) {
+        while (usedBlocks + needed > totalBlocks) {
+            // keep is the entry being replaced; if it is eldest, take the next one
+            int victim = head == keep ? after[head] : head;
+            if (victim == NIL) break;  // cannot happen: needed <= totalBlocks
+            release(victim);
+            evictions++;
+        }
+    }
+
+    private void evictEldest() {
+        release(head);
+        evictions++;
+    }
+
+    private void release(int entry) {
+        unlinkChain(entry);
+        unlinkLru(entry);
+        freeBlocks(entryFirstBlock[entry]);
+        usedBlocks -= blocksFor((long) entryKeyLength[entry] + entryValueLength[entry]);
+        after[entry] = freeEntryHead;
+        freeEntryHead = entry;
+        size--;
+    }
+
+    // ---------------------------------------------------------------- LRU list
+
+    private void linkTail(int entry) {
+        before[entry] = tail;
+        after[entry] = NIL;
+        if (tail == NIL) head = entry;
+        else after[tail] = entry;
+        tail = entry;
+    }
+
+    private void unlinkLru(int entry) {
+        int b = before[entry];
+        int a = after[entry];
+        if (b == NIL) head = a;
+        else after[b] = a;
+        if (a == NIL) tail = b;
+        else before[a] = b;
+    }
+
+    private void moveToTail(int entry) {
+        if (entry != tail) {
+            unlinkLru(entry);
+            linkTail(entry);
+        }
+    }
+
+    // ---------------------------------------------------------------- hash index
+
+    private int find(byte[] keyBytes, int hash) {
+        for (int e = buckets[hash & (buckets.length - 1)]; e != NIL; e = chainNext[e]) {
+            if (entryHash[e] == hash && entryKeyLength[e] == keyBytes.length && keyEquals(e, keyBytes)) {
+                return e;
+            }
+        }
+        return NIL;
+    }
+
+    private void link(int entry) {
+        if (size + 1 > buckets.length - (buckets.length >>> 2)) {
+            resizeBuckets(buckets.length << 1);
+        }
+        int bucket = entryHash[entry] & (buckets.length - 1);
+        chainNext[entry] = buckets[bucket];
+        buckets[bucket] = entry;
+    }
+
+    private void unlinkChain(int entry) {
+        int bucket = entryHash[entry] & (buckets.length - 1);
+        int e = buckets[bucket];
+        if (e == entry) {
+            buckets[bucket] = chainNext[entry];
+            return;
+        }
+        while (chainNext[e] != entry) {
+            e = chainNext[e];
+        }
+        chainNext[e] = chainNext[entry];
+    }
+
+    private void resizeBuckets(int newLength) {
+        buckets = newBuckets(newLength);
+        for (int e = head; e != NIL; e = after[e]) {
+            int bucket = entryHash[e] & (newLength - 1);
+            chainNext[e] = buckets[bucket];
+            buckets[bucket] = e;
+        }
+    }
+
+    private static int[] newBuckets(int length) {
+        int[] table = new int[length];
+        Arrays.fill(table, NIL);
+        return table;
+    }
+
+    private static int hash(byte[] keyBytes) {
+        int h = Arrays.hashCode(keyBytes);
+        return h ^ (h >>> 16);
+    }
+
+    // ---------------------------------------------------------------- entries
+
+    private int newEntry() {
+        if (freeEntryHead != NIL) {
+            int entry = freeEntryHead;
+            freeEntryHead = after[entry];
+            return entry;
+        }
+        if (carvedEntries == entryHash.length) {
+            int capacity = Math.min(maxEntries, Math.max(INITIAL_ENTRIES, carvedEntries << 1));
+            entryHash = Arrays.copyOf(entryHash, capacity);
+            entryKeyLength = Arrays.copyOf(entryKeyLength, capacity);
+            entryValueLength = Arrays.copyOf(entryValueLength, capacity);
+            entryFirstBlock = Arrays.copyOf(entryFirstBlock, capacity);
+            before = Arrays.copyOf(before, capacity);
+            after = Arrays.copyOf(after, capacity);
+            chainNext = Arrays.copyOf(chainNext, capacity);
+        }
+        return carvedEntries++;
+    }
+
+    // ---------------------------------------------------------------- blocks
+
+    private int blocksFor(long bytes) {
+        return (int) Math.max(1, (bytes + blockSize - 1) >>> blockShift);
+    }
+
+    private int allocateBlock() {
+        if (freeBlockHead != NIL) {
+            int block = freeBlockHead;
+            freeBlockHead = blockNext[block];
+            return block;
+        }
+        int block = carvedBlocks++;
+        int slab = block >>> blocksPerSlabShift;
+        if (slab == slabs.length) {
+            int slabBlocks = Math.min(1 << blocksPerSlabShift, totalBlocks - (slab << blocksPerSlabShift));
+            slabs = Arrays.copyOf(slabs, slab + 1);
+            slabs[slab] = ByteBuffer.allocateDirect(slabBlocks << blockShift);
+        }
+        if (block == blockNext.length) {
+            blockNext = Arrays.copyOf(blockNext, Math.min(totalBlocks, Math.max(64, block << 1)));
+        }
+        return block;
+    }
+
+    private void freeBlocks(int block) {
+        while (block != NIL) {
+            int next = blockNext[block];
+            blockNext[block] = freeBlockHead;
+            freeBlockHead = block;
+            block = next;
+        }
+    }
+
+    // Writes key then value into a fresh chain of 'count' blocks
+    private int write(byte[] keyBytes, byte[] valueBytes, int count) {
+        int first = NIL;
+        int previous = NIL;
+        int keyPos = 0;
+        int valuePos = 0;
+        for (int i = 0; i < count; i++) {
+            int block = allocateBlock();
+            blockNext[block] = NIL;
+            if (previous == NIL) first = block;
+            else blockNext[previous] = block;
+            previous = block;
+
+            ByteBuffer slab = slabs[block >>> blocksPerSlabShift];
+            int offset = (block & ((1 << blocksPerSlabShift) - 1)) << blockShift;
+            int room = blockSize;
+            if (keyPos < keyBytes.length) {
+                int n = Math.min(room, keyBytes.length - keyPos);
+                slab.put(offset, keyBytes, keyPos, n);
+                keyPos += n;
+                offset += n;
+                room -= n;
+            }
+            if (room > 0 && valuePos < valueBytes.length) {
+                int n = Math.min(room, valueBytes.length - valuePos);
+                slab.put(offset, valueBytes, valuePos, n);
+                valuePos += n;
+            }
+        }
+        usedBlocks += count;
+        return first;
+    }
+
+    // Copies 'length' bytes starting at logical offset 'from' of an entry
+    private byte[] read(int entry, int from, int length) {
+        byte[] out = new byte[length];
+        int block = entryFirstBlock[entry];
+        for (int skip = from >>> blockShift; skip > 0; skip--) {
+            block = blockNext[block];
+        }
+        int inBlock = from & (blockSize - 1);
+        int copied = 0;
+        while (copied < length) {
+            int n = Math.min(blockSize - inBlock, length - copied);
+            ByteBuffer slab = slabs[block >>> blocksPerSlabShift];
+            int offset = ((block & ((1 << blocksPerSlabShift) - 1)) << blockShift) + inBlock;
+            slab.get(offset, out, copied, n);
+            copied += n;
+            inBlock = 0;
+            block = blockNext[block];
+        }
+        return out;
+    }
+
+    private boolean keyEquals(int entry, byte[] keyBytes) {
+        int block = entryFirstBlock[entry];
+        int compared = 0;
+        while (compared < keyBytes.length) {
+            int n = Math.min(blockSize, keyBytes.length - compared);
+            ByteBuffer slab = slabs[block >>> blocksPerSlabShift];
+            slab.get((block & ((1 << blocksPerSlabShift) - 1)) << blockShift, scratch, 0, n);
+            if (Arrays.mismatch(scratch, 0, n, keyBytes, compared, compared + n) != -1) {
+                return false;
+            }
+            compared += n;
+            block = blockNext[block];
+        }
+        return true;
+    }
+}
+
+/*
+ ============================================================================
+                    OFFHEAPLRUCACHE VS LINKEDHASHMAP LRU CACHE
+ ============================================================================
+
+ | Operation        | OffHeapLRUCache       | LRUCache (LinkedHashMap) | Notes
+ |------------------|-----------------------|--------------------------|------
+ | get(key)         | O(1) avg + O(bytes)   | O(1) average             | Encode key, compare bytes, decode value
+ | put(key, value)  | O(1) avg + O(bytes)   | O(1) average             | Evicts eldest until both bounds hold
+ | remove(key)      | O(1) average          | O(1) average             | Blocks return to the shared free list
+ | containsKey(key) | O(1) avg + O(bytes)   | O(1) average             | Does not change LRU order
+ | eviction         | entry count AND bytes | entry count only         |
+
+ Per-entry heap cost:
+ - LRUCache:        ~40 byte LinkedHashMap.Entry + key object + value object + table slot
+ - OffHeapLRUCache: 7 ints (28 bytes) in shared arrays + 4 bytes per block + bucket slot,
+                    no objects at all - the GC scans a few arrays, not millions of nodes
+
+ Trade-offs:
+ - Every get() decodes a fresh value object (short-lived, dies young)
+ - Key equality is byte equality of the encoded form
+ - Up to blockSize - 1 bytes wasted per entry (default 64-byte blocks)
+
+ ============================================================================
+*/
@@ -0,0 +1,756 @@
+package collectionsDSA.map;
+
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// HashMap for attacker-controlled keys (request parameters, JSON field
+// names, headers). HashMapDSA.BadHashKey is the attack in miniature: keys
+// that all share one hashCode turn every bucket operation into a scan of
+// the whole chain, and HashMap's own tree bins only help when the keys are
+// Comparable - "Aa"/"BB"-style String collisions are cheap to generate.
+//
+// Two defences, both keyed by a per-instance secret seed:
+//
+// 1. Seeded bucket index: hashCode() is run through a keyed 64-bit mix, so
+//    the low bits an attacker would need to pile keys into one bucket change
+//    with every map instance. Costs one multiply-xorshift over HashMap.
+//
+// 2. Collision monitor: every put counts the chain it walks. A chain longer
+//    than TREEIFY_THRESHOLD (in a table of at least MIN_TREEIFY_CAPACITY)
+//    means the keys collide in hashCode itself, which no seed can separate,
+//    so the bucket becomes a tree bin: a treap ordered by a seeded SipHash-2-4
+//    fingerprint of each key's CONTENT (then compareTo, for Comparable keys
+//    whose fingerprints tie). Lookups in a hot bucket are O(log n) for
+//    Comparable keys and for keys the KeyHasher can fingerprint by content.
+//
+// Fingerprints come from a KeyHasher. The default one only reads the
+// content of CharSequence and integral Number keys; any other type falls
+// back to sipHash(hashCode()), and keys that collide in hashCode then
+// collide in the fingerprint too. Non-Comparable ones (like BadHashKey)
+// end up in one tie group and are scanned in O(n), as in HashMap. Such key
+// types need their own KeyHasher (see HashMapDSA's demo) to get O(log n).
+// Treap priorities mix the fingerprint with the node's identity hash, so
+// the tree shape cannot be steered by choosing keys either.
+//
+// Null keys and values are allowed, like HashMap. Not thread-safe.
+public class SeededHashMap<K, V> extends AbstractMap<K, V> {
+    static final int TREEIFY_THRESHOLD = 8;
+    static final int UNTREEIFY_THRESHOLD = 6;
+    static final int MIN_TREEIFY_CAPACITY = 64;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // Per-instance seeds: a secret base from SecureRandom, stepped and mixed
+    private static final AtomicLong SEEDS = new AtomicLong(new SecureRandom().nextLong());
+
+    // Seeded 64-bit fingerprint of a key's content; only needed in hot buckets
+    @FunctionalInterface
+    public interface KeyHasher<K> {
+        long hash(K key, long k0, long k1);
+
+        // SipHash of CharSequence and integral Number contents. Anything else
+        // is fingerprinted by its hashCode, which gives colliding keys no order
+        KeyHasher<Object> DEFAULT = (key, k0, k1) -> {
+            if (key instanceof CharSequence) {
+                return sipHash((CharSequence) key, k0, k1);
+            }
+            if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+                return sipHash(((Number) key).longValue(), k0, k1);
+            }
+            return sipHash(Objects.hashCode(key), k0, k1);
+        };
+    }
+
+    private final KeyHasher<? super K> hasher;
+    private final long k0;
+    private final long k1;
+    private Node<K, V>[] table;
+    private int size;
+    private int threshold;
+    private int treeBins;                    // Buckets currently treeified
+    private long treeifications;             // Hot buckets seen over the map's life
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public SeededHashMap() {
+        this(DEFAULT_CAPACITY, KeyHasher.DEFAULT);
+    }
+
+    public SeededHashMap(KeyHasher<? super K> hasher) {
+        this(DEFAULT_CAPACITY, hasher);
+    }
+
+    public SeededHashMap(int initialCapacity, KeyHasher<? super K> hasher) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        this.hasher = Objects.requireNonNull(hasher);
+        this.k0 = mix64(SEEDS.addAndGet(0x9E3779B97F4A7C15L));
+        this.k1 = mix64(SEEDS.addAndGet(0x9E3779B97F4A7C15L));
+        int capacity = tableSizeFor(Math.max(DEFAULT_CAPACITY, (int) (initialCapacity / LOAD_FACTOR) + 1));
+        this.table = newTable(capacity);
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // ---------------------------------------------------------------- Map
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int index = hash & (table.length - 1);
+        Node<K, V> first = table[index];
+        if (first instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) first;
+            Node<K, V> node = new Node<>(hash, key, value, null);
+            node.fingerprint = fingerprint(key);
+            Node<K, V> existing = bin.insert(node);
+            if (existing != null) {
+                V old = existing.value;
+                existing.value = value;
+                return old;
+            }
+        } else {
+            int chain = 0;
+            for (Node<K, V> n = first; n != null; n = n.next, chain++) {
+                if (n.hash == hash && Objects.equals(n.key, key)) {
+                    V old = n.value;
+                    n.value = value;
+                    return old;
+                }
+            }
+            table[index] = new Node<>(hash, key, value, first);
+            if (chain >= TREEIFY_THRESHOLD) {
+                onHotBucket(index);
+            }
+        }
+        modCount++;
+        if (++size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = removeNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+        treeBins = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    // ---------------------------------------------------------------- monitor
+
+    // Buckets currently held as trees
+    public int treeBins() {
+        return treeBins;
+    }
+
+    // Hot buckets converted to trees over the map's life (resizes rebuild
+    // tree bins without counting them again)
+    public long treeifications() {
+        return treeifications;
+    }
+
+    // Longest chain, or tree bin size, in the table - O(capacity)
+    public int maxBucketSize() {
+        int max = 0;
+        for (Node<K, V> first : table) {
+            int n = 0;
+            if (first instanceof TreeBin) {
+                n = ((TreeBin<K, V>) first).count;
+            } else {
+                for (Node<K, V> node = first; node != null; node = node.next) n++;
+            }
+            max = Math.max(max, n);
+        }
+        return max;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    // Keyed mix of hashCode; the seed makes the low bits instance-specific
+    private int hash(Object key) {
+        long z = (Objects.hashCode(key) ^ k0) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 31)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 32));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long fingerprint(Object key) {
+        return hasher.hash((K) key, k0, k1);
+    }
+
+    private Node<K, V> find(Object key) {
+        int hash = hash(key);
+        Node<K, V> first = table[hash & (table.length - 1)];
+        if (first instanceof TreeBin) {
+            return ((TreeBin<K, V>) first).find(key, hash, fingerprint(key));
+        }
+        for (Node<K, V> n = first; n != null; n = n.next) {
+            if (n.hash == hash && Objects.equals(n.key, key)) {
+                return n;
+            }
+        }
+        return null;
+    }
+
+    private Node<K, V> removeNode(Object key) {
+        int hash = hash(key);
+        int index = hash & (table.length - 1);
+        Node<K, V> first = table[index];
+        Node<K, V> removed = null;
+        if (first instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) first;
+            removed = bin.remove(key, hash, fingerprint(key));
+            if (removed != null && bin.count <= UNTREEIFY_THRESHOLD) {
+                table[index] = bin.toChain();
+                treeBins--;
+            }
+        } else {
+            Node<K, V> prev = null;
+            for (Node<K, V> n = first; n != null; prev = n, n = n.next) {
+                if (n.hash == hash && Objects.equals(n.key, key)) {
+                    if (prev == null) {
+                        table[index] = n.next;
+                    } else {
+                        prev.next = n.next;
+                    }
+                    removed = n;
+                    break;
+                }
+            }
+        }
+        if (removed != null) {
+            size--;
+            modCount++;
+        }
+        return removed;
+    }
+
+    // A chain passed TREEIFY_THRESHOLD: grow a small table first (the keys
+    // may just share low bits), otherwise turn the bucket into a tree
+    private void onHotBucket(int index) {
+        if (table.length < MIN_TREEIFY_CAPACITY) {
+            resize();
+            return;
+        }
+        treeifications++;
+        table[index] = treeify(table[index]);
+    }
+
+    private TreeBin<K, V> treeify(Node<K, V> chain) {
+        TreeBin<K, V> bin = new TreeBin<>();
+        for (Node<K, V> n = chain; n != null; ) {
+            Node<K, V> following = n.next;
+            n.next = null;
+            n.fingerprint = fingerprint(n.key);
+            bin.insert(n);
+            n = following;
+        }
+        treeBins++;
+        return bin;
+    }
+
+    private void resize() {
+        Node<K, V>[] old = table;
+        if (old.length == 1 << 30) {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+        table = newTable(old.length << 1);
+        threshold = (int) (table.length * LOAD_FACTOR);
+        treeBins = 0;
+        int mask = table.length - 1;
+        int[] lengths = new int[table.length];
+        boolean[] wasTree = new boolean[table.length];   // Holds nodes of an old tree bin
+        for (Node<K, V> first : old) {
+            boolean tree = first instanceof TreeBin;
+            Node<K, V> n = tree ? ((TreeBin<K, V>) first).toChain() : first;
+            while (n != null) {
+                Node<K, V> following = n.next;
+                int index = n.hash & mask;
+                n.next = table[index];
+                table[index] = n;
+                lengths[index]++;
+                wasTree[index] |= tree;
+                n = following;
+            }
+        }
+        // Buckets that are still hot after doubling collide in hashCode itself
+        if (table.length >= MIN_TREEIFY_CAPACITY) {
+            for (int i = 0; i < table.length; i++) {
+                if (lengths[i] > TREEIFY_THRESHOLD) {
+                    if (!wasTree[i]) {
+                        treeifications++;
+                    }
+                    table[i] = treeify(table[i]);
+                }
+            }
+        }
+    }
+
+    // Tree order: fingerprint, then compareTo when both keys are Comparable
+    // instances of one class; 0 = same tree node (a tie group, see TreeBin)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object a, long fa, Object b, long fb) {
+        if (fa != fb) {
+            return Long.compare(fa, fb);
+        }
+        if (a instanceof Comparable && b != null && a.getClass() == b.getClass()) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return 0;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(1, capacity - 1));
+        return Math.min(n + 1, 1 << 30);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Node<K, V>[] newTable(int length) {
+        return (Node<K, V>[]) new Node[length];
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // ---------------------------------------------------------------- SipHash-2-4
+
+    // SipHash-2-4 of the UTF-16 code units of s, four chars per 64-bit block
+    public static long sipHash(CharSequence s, long k0, long k1) {
+        long v0 = 0x736f6d6570736575L ^ k0;
+        long v1 = 0x646f72616e646f6dL ^ k1;
+        long v2 = 0x6c7967656e657261L ^ k0;
+        long v3 = 0x7465646279746573L ^ k1;
+        int n = s.length();
+        int blocks = n >>> 2;
+        for (int b = 0; b <= blocks; b++) {
+            long m;
+            int i = b << 2;
+            if (b < blocks) {
+                m = s.charAt(i) | (long) s.charAt(i + 1) << 16 | (long) s.charAt(i + 2) << 32
+                        | (long) s.charAt(i + 3) << 48;
+            } else {
+                m = (long) (n << 1) << 56;   // Byte length mod 256 in the top byte
+                for (int shift = 0; i < n; i++, shift += 16) {
+                    m |= (long) s.charAt(i) << shift;
+                }
+            }
+            v3 ^= m;
+            for (int r = 0; r < 2; r++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        v2 ^= 0xff;
+        for (int r = 0; r < 4; r++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    // SipHash-2-4 of one 8-byte value
+    public static long sipHash(long value, long k0, long k1) {
+        long v0 = 0x736f6d6570736575L ^ k0;
+        long v1 = 0x646f72616e646f6dL ^ k1;
+        long v2 = 0x6c7967656e657261L ^ k0;
+        long v3 = 0x7465646279746573L ^ k1;
+        for (int b = 0; b < 2; b++) {
+            long m = b == 0 ? value : 8L << 56;   // The value, then the length block
+            v3 ^= m;
+            for (int r = 0; r < 2; r++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        v2 ^= 0xff;
+        for (int r = 0; r < 4; r++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    // ---------------------------------------------------------------- nodes
+
+    static class Node<K, V> implements Map.Entry<K, V> {
+        final int hash;
+        final K key;
+        V value;
+        Node<K, V> next;          // Chain, or the rest of a tie group in a tree bin
+        long fingerprint;         // Tree bins only
+        Node<K, V> left;
+        Node<K, V> right;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    // Treap of a hot bucket's nodes, ordered by compare(). Keys that compare
+    // 0 without being equal (same fingerprint, not mutually Comparable) form
+    // a tie group chained through next behind one tree node - the only part
+    // that is searched linearly.
+    static final class TreeBin<K, V> extends Node<K, V> {
+        Node<K, V> root;
+        int count;
+
+        TreeBin() {
+            super(0, null, null, null);
+        }
+
+        Node<K, V> find(Object key, int hash, long fingerprint) {
+            Node<K, V> n = root;
+            while (n != null) {
+                int c = compare(key, fingerprint, n.key, n.fingerprint);
+                if (c == 0) {
+                    for (Node<K, V> t = n; t != null; t = t.next) {
+                        if (t.hash == hash && Objects.equals(t.key, key)) {
+                            return t;
+                        }
+                    }
+                    return null;
+                }
+                n = c < 0 ? n.left : n.right;
+            }
+            return null;
+        }
+
+        // Returns the existing node for an equal key (node is not inserted)
+        Node<K, V> insert(Node<K, V> node) {
+            Node<K, V> existing = find(node.key, node.hash, node.fingerprint);
+            if (existing != null) {
+                return existing;
+            }
+            root = insert(root, node);
+            count++;
+            return null;
+        }
+
+        private Node<K, V> insert(Node<K, V> n, Node<K, V> node) {
+            if (n == null) {
+                return node;
+            }
+            int c = compare(node.key, node.fingerprint, n.key, n.fingerprint);
+            if (c == 0) {
+                node.next = n.next;   // Join the tie group behind its tree node
+                n.next = node;
+                return n;
+            }
+            if (c < 0) {
+                n.left = insert(n.left, node);
+                if (priority(n.left) > priority(n)) n = rotateRight(n);
+            } else {
+                n.right = insert(n.right, node);
+                if (priority(n.right) > priority(n)) n = rotateLeft(n);
+            }
+            return n;
+        }
+
+        Node<K, V> remove(Object key, int hash, long fingerprint) {
+            Node<K, V>[] removed = newRemoved();   // {removed node, rest of its tie group}
+            root = remove(root, key, hash, fingerprint, removed);
+            if (removed[1] != null) {
+                // The group's new head has its own priority: it could outrank
+                // n's parent or be outranked by n's children, so it goes in
+                // as a fresh insert rather than taking n's place
+                root = insert(root, removed[1]);
+            }
+            if (removed[0] != null) {
+                count--;
+                Node<K, V> r = removed[0];
+                r.left = r.right = r.next = null;
+            }
+            return removed[0];
+        }
+
+        private Node<K, V> remove(Node<K, V> n, Object key, int hash, long fingerprint, Node<K, V>[] removed) {
+            if (n == null) {
+                return null;
+            }
+            int c = compare(key, fingerprint, n.key, n.fingerprint);
+            if (c < 0) {
+                n.left = remove(n.left, key, hash, fingerprint, removed);
+                return n;
+            }
+            if (c > 0) {
+                n.right = remove(n.right, key, hash, fingerprint, removed);
+                return n;
+            }
+            // Tie group: unlink from behind the head, or drop the head and
+            // re-insert the next one with the rest of the group
+            if (!(n.hash == hash && Objects.equals(n.key, key))) {
+                for (Node<K, V> prev = n; prev.next != null; prev = prev.next) {
+                    Node<K, V> t = prev.next;
+                    if (t.hash == hash && Objects.equals(t.key, key)) {
+                        prev.next = t.next;
+                        removed[0] = t;
+                        break;
+                    }
+                }
+                return n;
+            }
+            removed[0] = n;
+            removed[1] = n.next;   // Re-inserted from the root by the caller
+            return deleteRoot(n);
+        }
+
+        // Rotates n down until it is a leaf, then drops it
+        private Node<K, V> deleteRoot(Node<K, V> n) {
+            if (n.left == null) return n.right;
+            if (n.right == null) return n.left;
+            if (priority(n.left) > priority(n.right)) {
+                Node<K, V> top = rotateRight(n);
+                top.right = deleteRoot(n);
+                return top;
+            }
+            Node<K, V> top = rotateLeft(n);
+            top.left = deleteRoot(n);
+            return top;
+        }
+
+        // All nodes as a plain chain (tree links cleared)
+        Node<K, V> toChain() {
+            Node<K, V> chain = null;
+            ArrayDeque<Node<K, V>> stack = new ArrayDeque<>();
+            if (root != null) stack.push(root);
+            while (!stack.isEmpty()) {
+                Node<K, V> n = stack.pop();
+                if (n.left != null) stack.push(n.left);
+                if (n.right != null) stack.push(n.right);
+                n.left = n.right = null;
+                for (Node<K, V> t = n; t != null; ) {
+                    Node<K, V> following = t.next;
+                    t.next = chain;
+                    chain = t;
+                    t = following;
+                }
+            }
+            return chain;
+        }
+
+        // Per node, not per fingerprint: keys ordered by compareTo can share
+        // one fingerprint and would otherwise all get the same priority
+        private static long priority(Node<?, ?> n) {
+            return mix64(n.fingerprint ^ System.identityHashCode(n));
+        }
+
+        private static <K, V> Node<K, V> rotateRight(Node<K, V> n) {
+            Node<K, V> l = n.left;
+            n.left = l.right;
+            l.right = n;
+            return l;
+        }
+
+        private static <K, V> Node<K, V> rotateLeft(Node<K, V> n) {
+            Node<K, V> r = n.right;
+            n.right = r.left;
+            r.left = n;
+            return r;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <K, V> Node<K, V>[] newRemoved() {
+            return (Node<K, V>[]) new Node[2];
+        }
+    }
+
+    // ---------------------------------------------------------------- views
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            SeededHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int index;                       // Next bucket to load
+        private Node<K, V> next;                 // Next entry in the current bucket
+        private Node<K, V> bucket;               // Remaining chain of the current bucket
+        private Node<K, V> last;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        // Tree bins are flattened into a snapshot chain copy of their entries
+        private void advance() {
+            while (bucket == null && index < table.length) {
+                Node<K, V> first = table[index++];
+                if (first instanceof TreeBin) {
+                    bucket = snapshot((TreeBin<K, V>) first);
+                } else {
+                    bucket = first;
+                }
+            }
+            next = bucket;
+            if (bucket != null) {
+                bucket = bucket instanceof Snapshot ? ((Snapshot<K, V>) bucket).rest : bucket.next;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (next == null) throw new NoSuchElementException();
+            last = next instanceof Snapshot ? ((Snapshot<K, V>) next).node : next;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            removeNode(last.key);
+            last = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    private Node<K, V> snapshot(TreeBin<K, V> bin) {
+        Snapshot<K, V> head = null;
+        ArrayDeque<Node<K, V>> stack = new ArrayDeque<>();
+        if (bin.root != null) stack.push(bin.root);
+        while (!stack.isEmpty()) {
+            Node<K, V> n = stack.pop();
+            if (n.left != null) stack.push(n.left);
+            if (n.right != null) stack.push(n.right);
+            for (Node<K, V> t = n; t != null; t = t.next) {
+                head = new Snapshot<>(t, head);
+            }
+        }
+        return head;
+    }
+
+    // Iterator-only link to a tree bin node (the tree bin's own links move
+    // with rotations and removals)
+    private static final class Snapshot<K, V> extends Node<K, V> {
+        final Node<K, V> node;
+        final Snapshot<K, V> rest;
+
+        Snapshot(Node<K, V> node, Snapshot<K, V> rest) {
+            super(0, null, null, null);
+            this.node = node;
+            this.rest = rest;
+        }
+    }
+}
+
+/*
+ ============================================================================
+        SEEDEDHASHMAP VS HASHMAP (n keys, c = keys sharing one hashCode)
+ ============================================================================
+
+ | Case                                | HashMap                | SeededHashMap
+ |-------------------------------------|------------------------|---------------------------
+ | Distinct hashCodes                  | O(1)                   | O(1) (+1 keyed mix)
+ | Low-bit bucket collisions (crafted  | chains until resize    | seed changes the low bits
+ |   for HashMap's spread function)    |                        | per instance
+ | Same hashCode, Comparable keys      | O(log c) tree bin      | O(log c) tree bin
+ | Same hashCode, non-Comparable keys  | O(c) scan (tree bin    | O(log c) with a KeyHasher
+ |   (BadHashKey)                      |   cannot order them)   |   (content fingerprint);
+ |                                     |                        |   O(c) with the default one
+ | Same hashCode, same fingerprint,    | O(c)                   | O(c) tie group
+ |   non-Comparable                    |                        |
+ | Extra memory per entry              | -                      | fingerprint + 2 tree links
+
+ ============================================================================
+*/
@@ -111,6 +111,9 @@ public class WeakHashMapDSA {
         }
         
         System.out.println("Cache after removing references and GC: " + cache.size() + " entries");
+        // GC timing decides when these entries go. For a deterministic lifetime
+        // use a TTL instead: LinkedHashMapDSA.CustomLinkedHashMap / BoundedCache
+        // with Expiry.afterWrite(...) or Expiry.afterAccess(...)
         
         // 6. COLLECTION OPERATIONS
         
@@ -152,6 +152,16 @@ public class ArrayDequeDSA {
         String notPalindrome = "hello";
         boolean isNotPalindrome = checkPalindrome(notPalindrome);
         System.out.println("\"" + notPalindrome + "\" is palindrome: " + isNotPalindrome);
+
+        String sentence = "A man, a plan, a canal: Panama";
+        System.out.println("\"" + sentence + "\" exact: " + PalindromeChecker.isPalindrome(sentence)
+                + ", normalized: " + PalindromeChecker.isPalindrome(sentence, PalindromeChecker.NORMALIZED));
+
+        // Same check on UTF-8 bytes (e.g. a MappedByteBuffer) - nothing decoded to a String
+        java.nio.ByteBuffer utf8 = java.nio.ByteBuffer.wrap(
+                "А роза упала на лапу Азора".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        System.out.println("UTF-8 buffer, normalized: "
+                + PalindromeChecker.isPalindrome(utf8, PalindromeChecker.NORMALIZED));
         
         // 10. PRACTICAL USE CASE: SLIDING WINDOW MAXIMUM
         
@@ -162,7 +172,22 @@ public class ArrayDequeDSA {
         System.out.println("Array: " + Arrays.toString(array));
         System.out.println("Window size: " + windowSize);
         System.out.println("Maximums in windows: " + Arrays.toString(maxInWindows));
-        
+        System.out.println("Minimums in windows: " + Arrays.toString(slidingWindowMinimum(array, windowSize)));
+
+        // Same window over a stream that never ends - pushed one value at a time
+        SlidingWindowAggregator streaming = SlidingWindowAggregator.countWindow(windowSize)
+                .onWindow(w -> System.out.println("  streamed " + w));
+        streaming.acceptAll(array, 0, array.length);
+
+        // Time-based: values from the last 10 seconds (explicit timestamps here)
+        SlidingWindowAggregator lastTenSeconds = SlidingWindowAggregator.timeWindow(
+                java.time.Duration.ofSeconds(10), System::nanoTime);
+        long second = 1_000_000_000L;
+        lastTenSeconds.accept(120, 0);
+        lastTenSeconds.accept(80, 4 * second);
+        lastTenSeconds.accept(95, 11 * second);  // Evicts the value from t=0
+        System.out.println("Last 10s at t=11s: " + lastTenSeconds);
+
         // 11. PERFORMANCE DEMONSTRATION
         
         System.out.println("\n=== Performance Characteristics ===");
@@ -195,48 +220,46 @@ public class ArrayDequeDSA {
         System.out.println("Final deque: " + resizeDeque);
     }
     
-    // Palindrome checker using ArrayDeque
+    // Palindrome checker - two pointers over the string itself. The deque
+    // version (copy every char into an ArrayDeque<Character>, poll both ends)
+    // does the same comparisons after boxing the whole input
     public static boolean checkPalindrome(String str) {
-        ArrayDeque<Character> deque = new ArrayDeque<>();
-        
-        // Add all characters to deque
-        for (char c : str.toCharArray()) {
-            deque.addLast(c);
-        }
-        
-        // Compare characters from both ends
-        while (deque.size() > 1) {
-            Character first = deque.pollFirst();
-            Character last = deque.pollLast();
-            if (!first.equals(last)) {
-                return false;
-            }
-        }
-        return true;
+        return PalindromeChecker.isPalindrome(str);
     }
     
-    // Sliding window maximum using ArrayDeque
+    // Windows at least this wide use block decomposition; narrower ones keep
+    // the deque, whose short pops beat the per-block loop setup there.
+    // Measured with queue.SlidingWindowBenchmark
+    static final int BLOCK_THRESHOLD = 4;
+
+    // Sliding window maximum - O(n) time. Picks the faster of the two exact
+    // algorithms below by window size; both return the same array
     public static int[] slidingWindowMaximum(int[] nums, int k) {
+        return k >= BLOCK_THRESHOLD ? BlockWindowExtrema.max(nums, k) : dequeWindowMaximum(nums, k);
+    }
+
+    // Sliding window minimum - mirror image of slidingWindowMaximum
+    public static int[] slidingWindowMinimum(int[] nums, int k) {
+        return k >= BLOCK_THRESHOLD ? BlockWindowExtrema.min(nums, k) : dequeWindowMinimum(nums, k);
+    }
+
+    // Sliding window maximum using a monotonic IntDeque of indices - O(n) time,
+    // O(k) space. Same algorithm as with ArrayDeque<Integer>, but indices stay
+    // primitive, so 100M-element inputs run without per-element allocation
+    public static int[] dequeWindowMaximum(int[] nums, int k) {
         if (nums == null || nums.length == 0 || k <= 0) {
             return new int[0];
         }
         
         int[] result = new int[nums.length - k + 1];
-        ArrayDeque<Integer> deque = new ArrayDeque<>();  // Stores indices
+        IntDeque deque = new IntDeque(Math.min(k, nums.length));  // Stores indices
         
         for (int i = 0; i < nums.length; i++) {
             // Remove indices that are out of current window
-            while (!deque.isEmpty() && deque.peekFirst() <= i - k) {
-                deque.pollFirst();
-            }
+            deque.evictBefore(i - k + 1);
             
-            // Remove indices whose corresponding values are less than current value
-            while (!deque.isEmpty() && nums[deque.peekLast()] < nums[i]) {
-                deque.pollLast();
-            }
-            
-            // Add current index
-            deque.offerLast(i);
+            // Remove indices whose values are less than current value, add current index
+            deque.pushMaxCandidate(i, nums);
             
             // Add maximum for current window to result
             if (i >= k - 1) {
@@ -246,6 +269,26 @@ public class ArrayDequeDSA {
         
         return result;
     }
+    
+    // Deque version of the sliding window minimum
+    public static int[] dequeWindowMinimum(int[] nums, int k) {
+        if (nums == null || nums.length == 0 || k <= 0) {
+            return new int[0];
+        }
+        
+        int[] result = new int[nums.length - k + 1];
+        IntDeque deque = new IntDeque(Math.min(k, nums.length));
+        
+        for (int i = 0; i < nums.length; i++) {
+            deque.evictBefore(i - k + 1);
+            deque.pushMinCandidate(i, nums);
+            if (i >= k - 1) {
+                result[i - k + 1] = nums[deque.peekFirst()];
+            }
+        }
+        
+        return result;
+    }
 }
 
 /*
@@ -359,6 +402,7 @@ public class ArrayDequeDSA {
  8. Iterator behavior and fail-fast guarantees
  9. Use cases for double-ended queue
  10. Sliding window algorithms with ArrayDeque
+     (int inputs: monotonic IntDeque of indices avoids boxing every index)
  11. Palindrome checking using deque
  12. Thread safety considerations
 
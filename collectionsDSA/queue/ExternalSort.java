@@ -0,0 +1,332 @@
+package collectionsDSA.queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.LongConsumer;
+
+// External merge sort: sorts more values than fit in memory, the disk-backed
+// version of PriorityQueueDSA.mergeSortedArrays.
+//
+// 1. Run formation - fill a long[] of runLength values, Arrays.sort it (in
+//    place, so the buffer is the whole cost) and spill it to a temp file.
+// 2. Merge - k-way merge up to fanIn runs at a time with LoserTreeMerge.
+//    Each run file is read through a sliding memory-mapped window of
+//    blockBytes; if there are more runs than fanIn, intermediate passes
+//    merge groups of fanIn into longer runs first.
+//
+// Both are derived from one memoryBudget (bytes):
+//   blockBytes = budget / 128, clamped to [4 KB, 4 MB] - one read/write block
+//   runLength  = (budget - blockBytes) / 8              - values per run
+//   fanIn      = budget / blockBytes - 1                - one block per input
+//                                                         run + one for output
+// So each pass holds about memoryBudget bytes whatever the input size; a
+// 1 GB budget sorts 10 GB in 10 runs and one merge pass.
+//
+// Formats: input and output files are raw big-endian ints or longs (what
+// DataOutputStream.writeInt/writeLong produce). Run files are the same
+// width in native order - no headers, no framing, nothing to parse.
+// An input that fits in one run is sorted in memory and never spilled.
+public final class ExternalSort {
+    public static final long MIN_MEMORY_BUDGET = 64 << 10;
+    static final int MIN_BLOCK = 4 << 10;
+    static final int MAX_BLOCK = 4 << 20;
+    static final int MAX_FAN_IN = 1024;
+
+    private ExternalSort() {
+    }
+
+    // Sorts a file of big-endian ints into output; returns the value count
+    public static long sortInts(Path input, Path output, long memoryBudget) throws IOException {
+        return sortFile(input, output, Integer.BYTES, memoryBudget, tempDirOf(output));
+    }
+
+    // Sorts a file of big-endian longs into output; returns the value count
+    public static long sortLongs(Path input, Path output, long memoryBudget) throws IOException {
+        return sortFile(input, output, Long.BYTES, memoryBudget, tempDirOf(output));
+    }
+
+    // Sorts any stream of longs - generated, decoded, read from the network -
+    // spilling runs to tempDir; sink receives the values in ascending order
+    public static long sort(PrimitiveIterator.OfLong values, long memoryBudget, Path tempDir,
+                            LongConsumer sink) throws IOException {
+        Plan plan = new Plan(memoryBudget);
+        try {
+            return sort(values, Long.BYTES, plan, tempDir, sink);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long sortFile(Path input, Path output, int width, long memoryBudget, Path tempDir)
+            throws IOException {
+        if (input.toAbsolutePath().normalize().equals(output.toAbsolutePath().normalize())) {
+            throw new IllegalArgumentException("output would overwrite input: " + output);
+        }
+        Plan plan = new Plan(memoryBudget);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            // Checked before the output is opened (and truncated)
+            if (in.size() % width != 0) {
+                throw new IOException(input + ": size " + in.size() + " is not a multiple of " + width);
+            }
+            try (ValueWriter out = new ValueWriter(output, width, ByteOrder.BIG_ENDIAN, plan.blockBytes)) {
+                return sort(new ChannelValues(in, width, plan.blockBytes), width, plan, tempDir, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long sort(PrimitiveIterator.OfLong values, int width, Plan plan, Path tempDir,
+                             LongConsumer sink) throws IOException {
+        long[] buffer = new long[plan.runLength];
+        List<Path> runs = new ArrayList<>();
+        long count = 0;
+        try {
+            while (true) {
+                int n = 0;
+                while (n < buffer.length && values.hasNext()) {
+                    buffer[n++] = values.nextLong();
+                }
+                count += n;
+                Arrays.sort(buffer, 0, n);
+                if (runs.isEmpty() && !values.hasNext()) {
+                    // Fits in memory: no spill
+                    for (int i = 0; i < n; i++) sink.accept(buffer[i]);
+                    return count;
+                }
+                if (n > 0) {
+                    runs.add(spill(buffer, n, width, plan, tempDir));
+                }
+                if (!values.hasNext()) break;
+            }
+            buffer = null;   // Let the merge passes have the run buffer's memory back
+            while (runs.size() > plan.fanIn) {
+                runs = mergePass(runs, width, plan, tempDir);
+            }
+            merge(runs, width, plan, sink);
+            return count;
+        } finally {
+            for (Path run : runs) Files.deleteIfExists(run);
+        }
+    }
+
+    private static Path spill(long[] buffer, int n, int width, Plan plan, Path tempDir) throws IOException {
+        Path run = Files.createTempFile(tempDir, "run-", ".bin");
+        try (ValueWriter out = new ValueWriter(run, width, ByteOrder.nativeOrder(), plan.blockBytes)) {
+            for (int i = 0; i < n; i++) out.accept(buffer[i]);
+        }
+        return run;
+    }
+
+    // Merges groups of fanIn runs into longer runs; deletes the inputs
+    private static List<Path> mergePass(List<Path> runs, int width, Plan plan, Path tempDir) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += plan.fanIn) {
+                List<Path> group = runs.subList(from, Math.min(from + plan.fanIn, runs.size()));
+                Path run = Files.createTempFile(tempDir, "run-", ".bin");
+                merged.add(run);
+                try (ValueWriter out = new ValueWriter(run, width, ByteOrder.nativeOrder(), plan.blockBytes)) {
+                    merge(group, width, plan, out);
+                }
+                for (Path done : group) Files.delete(done);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path run : merged) Files.deleteIfExists(run);
+            throw e;
+        }
+        return merged;
+    }
+
+    private static void merge(List<Path> runs, int width, Plan plan, LongConsumer sink) throws IOException {
+        List<FileChannel> channels = new ArrayList<>(runs.size());
+        try {
+            PrimitiveIterator.OfLong[] readers = new PrimitiveIterator.OfLong[runs.size()];
+            for (int i = 0; i < readers.length; i++) {
+                FileChannel channel = FileChannel.open(runs.get(i), StandardOpenOption.READ);
+                channels.add(channel);
+                readers[i] = new MappedValues(channel, width, plan.blockBytes);
+            }
+            LoserTreeMerge.merge(readers, sink);
+        } finally {
+            for (FileChannel channel : channels) channel.close();
+        }
+    }
+
+    private static Path tempDirOf(Path output) {
+        Path parent = output.toAbsolutePath().getParent();
+        return parent != null ? parent : Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    // Run length, block size and fan-in for one memory budget
+    static final class Plan {
+        final int blockBytes;
+        final int runLength;
+        final int fanIn;
+
+        Plan(long memoryBudget) {
+            if (memoryBudget < MIN_MEMORY_BUDGET) {
+                throw new IllegalArgumentException("memoryBudget below " + MIN_MEMORY_BUDGET + ": " + memoryBudget);
+            }
+            long block = Math.max(MIN_BLOCK, Math.min(MAX_BLOCK, memoryBudget / 128));
+            this.blockBytes = (int) (block & ~(Long.BYTES - 1));
+            this.runLength = (int) Math.min(Integer.MAX_VALUE - 8, (memoryBudget - blockBytes) / Long.BYTES);
+            this.fanIn = (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudget / blockBytes - 1));
+        }
+
+        @Override
+        public String toString() {
+            return "Plan{blockBytes=" + blockBytes + ", runLength=" + runLength + ", fanIn=" + fanIn + "}";
+        }
+    }
+
+    // Sequential reads through one blockBytes buffer (the input file)
+    static final class ChannelValues implements PrimitiveIterator.OfLong {
+        private final FileChannel channel;
+        private final int width;
+        private final ByteBuffer block;
+
+        ChannelValues(FileChannel channel, int width, int blockBytes) {
+            this.channel = channel;
+            this.width = width;
+            this.block = ByteBuffer.allocateDirect(blockBytes).order(ByteOrder.BIG_ENDIAN);
+            block.flip();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (block.remaining() >= width) return true;
+            try {
+                block.compact();
+                while (block.position() < width && channel.read(block) >= 0) {
+                    // Short reads: keep going until one value or EOF
+                }
+                block.flip();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return block.remaining() >= width;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return width == Long.BYTES ? block.getLong() : block.getInt();
+        }
+    }
+
+    // A run file read through a sliding memory-mapped window of blockBytes.
+    // Old windows are unmapped when their buffers are collected; at most one
+    // per run is live at a time.
+    static final class MappedValues implements PrimitiveIterator.OfLong {
+        private final FileChannel channel;
+        private final int width;
+        private final int windowBytes;
+        private final long fileSize;
+        private long windowEnd;
+        private MappedByteBuffer window;
+
+        MappedValues(FileChannel channel, int width, int windowBytes) throws IOException {
+            this.channel = channel;
+            this.width = width;
+            this.windowBytes = windowBytes;
+            this.fileSize = channel.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (window != null && window.hasRemaining()) return true;
+            if (windowEnd >= fileSize) return false;
+            long length = Math.min(windowBytes, fileSize - windowEnd);
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            window.order(ByteOrder.nativeOrder());
+            windowEnd += length;
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return width == Long.BYTES ? window.getLong() : window.getInt();
+        }
+    }
+
+    // Buffered FileChannel writer of fixed-width values
+    static final class ValueWriter implements LongConsumer, Closeable {
+        private final FileChannel channel;
+        private final int width;
+        private final ByteBuffer block;
+
+        ValueWriter(Path file, int width, ByteOrder order, int blockBytes) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.width = width;
+            this.block = ByteBuffer.allocateDirect(blockBytes).order(order);
+        }
+
+        @Override
+        public void accept(long value) {
+            if (block.remaining() < width) flush();
+            if (width == Long.BYTES) {
+                block.putLong(value);
+            } else {
+                block.putInt((int) value);
+            }
+        }
+
+        private void flush() {
+            block.flip();
+            try {
+                while (block.hasRemaining()) channel.write(block);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            block.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
+
+/*
+ ============================================================================
+              EXTERNAL MERGE SORT (n values, budget M bytes, B block)
+ ============================================================================
+
+ | Phase           | Memory            | I/O                     | Time
+ |-----------------|-------------------|-------------------------|-------------------
+ | Run formation   | M (one long[])    | read n, write n         | O(n log(M/8))
+ | Each merge pass | fanIn * B + B     | read n, write n         | O(n log fanIn)
+ | Passes          | -                 | ceil(log_fanIn(runs))   |
+ | Runs            | -                 | ceil(8n / M)            |
+
+ - Arrays.sort, not parallelSort: parallelSort needs a second n-sized work
+   array, which would double the run buffer beyond the budget.
+ - int files are sorted in a long[] (8 bytes per value in memory) but spilled
+   and merged at 4 bytes per value.
+ - Mapped windows live outside the heap; the budget counts them anyway.
+
+ ============================================================================
+*/
@@ -0,0 +1,463 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Incremental top-k over an endless stream of (key, weight) updates -
+// PriorityQueueDSA.findTopKElements when the input never ends and the keys
+// arrive one update at a time.
+//
+// Counters sit in a binary min-heap ordered by count (the same array heap as
+// PriorityQueue, but each counter knows its slot, so a key's count can grow
+// in place with one sift-down). Three modes:
+//
+// - EXACT         every key keeps a counter. Exact, memory grows with the
+//                 number of distinct keys
+// - SPACE_SAVING  at most 'capacity' counters. A new key takes over the
+//                 smallest counter and inherits its count as error. Counts
+//                 never underestimate; overestimate by at most total/capacity.
+//                 Every key heavier than total/capacity is guaranteed present
+// - MISRA_GRIES   at most 'capacity' counters. A new key with no free slot
+//                 decrements every counter (lazily, via one shared offset).
+//                 Counts never overestimate; underestimate by at most
+//                 total/(capacity+1)
+//
+// Each Entry in a snapshot carries lowerBound/upperBound for the true weight.
+//
+// Thread-safe. Updates are O(log capacity) under a lock; snapshot() holds the
+// lock only to copy the counters (O(capacity) primitive copies), and ranks
+// the copy after releasing it, so queries do not stall ingestion for the
+// length of a sort.
+public final class HeavyHitters<K> {
+
+    public enum Mode { EXACT, SPACE_SAVING, MISRA_GRIES }
+
+    private final Mode mode;
+    private final int capacity;          // Max counters; Integer.MAX_VALUE for EXACT
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private final HashMap<K, Counter<K>> counters;
+    private Counter<K>[] heap;           // Min-heap on count
+    private int size;
+    private long offset;                 // MISRA_GRIES: total decrement applied to every counter
+    private long totalWeight;
+
+    private HeavyHitters(Mode mode, int capacity) {
+        this.mode = mode;
+        this.capacity = capacity;
+        int initial = mode == Mode.EXACT ? 16 : capacity;
+        this.counters = new HashMap<>(initial * 4 / 3 + 1);
+        this.heap = newArray(initial);
+    }
+
+    public static <K> HeavyHitters<K> exact() {
+        return new HeavyHitters<>(Mode.EXACT, Integer.MAX_VALUE);
+    }
+
+    public static <K> HeavyHitters<K> spaceSaving(int capacity) {
+        return new HeavyHitters<>(Mode.SPACE_SAVING, checkCapacity(capacity));
+    }
+
+    public static <K> HeavyHitters<K> misraGries(int capacity) {
+        return new HeavyHitters<>(Mode.MISRA_GRIES, checkCapacity(capacity));
+    }
+
+    static <K> HeavyHitters<K> create(Mode mode, int capacity) {
+        switch (mode) {
+            case EXACT: return exact();
+            case SPACE_SAVING: return spaceSaving(capacity);
+            default: return misraGries(capacity);
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    // Max counters kept (Integer.MAX_VALUE in EXACT mode)
+    public int capacity() {
+        return capacity;
+    }
+
+    // ---------------------------------------------------------------- updates
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    // O(log capacity). Weight must be positive
+    public void add(K key, long weight) {
+        Objects.requireNonNull(key, "key");
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+        lock.lock();
+        try {
+            totalWeight += weight;
+            Counter<K> counter = counters.get(key);
+            if (counter != null) {
+                counter.count += weight;
+                siftDown(counter.slot, counter);
+            } else if (size < capacity) {
+                insert(key, offset + weight);
+            } else if (mode == Mode.SPACE_SAVING) {
+                // Take over the smallest counter; its count becomes our error
+                Counter<K> min = heap[0];
+                counters.remove(min.key);
+                min.key = key;
+                min.error = min.count;
+                min.count += weight;
+                counters.put(key, min);
+                siftDown(0, min);
+            } else {
+                // MISRA_GRIES: decrement everything by what the smallest can absorb
+                long decrement = Math.min(weight, heap[0].count - offset);
+                offset += decrement;
+                while (size > 0 && heap[0].count <= offset) {
+                    removeTop();
+                }
+                long rest = weight - decrement;
+                if (rest > 0) {
+                    insert(key, offset + rest);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    // Current estimate for key (0 if untracked) - O(1)
+    public long estimate(K key) {
+        lock.lock();
+        try {
+            Counter<K> counter = counters.get(key);
+            return counter == null ? 0 : counter.count - offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Sum of all weights added so far
+    public long totalWeight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Keys currently tracked
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The k heaviest keys right now, heaviest first
+    public List<Entry<K>> top(int k) {
+        return snapshot().top(k);
+    }
+
+    // Point-in-time copy of every counter. Ingestion continues while the
+    // caller ranks, merges or prints it
+    public Snapshot<K> snapshot() {
+        lock.lock();
+        try {
+            Object[] keys = new Object[size];
+            long[] counts = new long[size];
+            long[] lower = new long[size];
+            long[] upper = new long[size];
+            for (int i = 0; i < size; i++) {
+                Counter<K> c = heap[i];
+                keys[i] = c.key;
+                long count = c.count - offset;
+                counts[i] = count;
+                if (mode == Mode.SPACE_SAVING) {
+                    lower[i] = count - c.error;
+                    upper[i] = count;
+                } else if (mode == Mode.MISRA_GRIES) {
+                    lower[i] = count;
+                    upper[i] = count + offset;   // Decrements it may have missed
+                } else {
+                    lower[i] = count;
+                    upper[i] = count;
+                }
+            }
+            return new Snapshot<>(keys, counts, lower, upper, totalWeight, absentBound());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            counters.clear();
+            Arrays.fill(heap, 0, size, null);
+            size = 0;
+            offset = 0;
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return mode + "{size=" + size() + ", total=" + totalWeight() + ", top=" + top(5) + "}";
+    }
+
+    // Upper bound on the weight of any key this summary does not track
+    private long absentBound() {
+        if (size < capacity) {
+            return mode == Mode.MISRA_GRIES ? offset : 0;
+        }
+        return mode == Mode.SPACE_SAVING ? heap[0].count : offset;
+    }
+
+    // ---------------------------------------------------------------- heap
+
+    private void insert(K key, long count) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        Counter<K> counter = new Counter<>(key, count);
+        counters.put(key, counter);
+        siftUp(size++, counter);
+    }
+
+    private void removeTop() {
+        Counter<K> top = heap[0];
+        counters.remove(top.key);
+        Counter<K> last = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+    }
+
+    private void siftUp(int slot, Counter<K> counter) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            Counter<K> p = heap[parent];
+            if (p.count <= counter.count) break;
+            heap[slot] = p;
+            p.slot = slot;
+            slot = parent;
+        }
+        heap[slot] = counter;
+        counter.slot = slot;
+    }
+
+    private void siftDown(int slot, Counter<K> counter) {
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            Counter<K> c = heap[child];
+            int right = child + 1;
+            if (right < size && heap[right].count < c.count) {
+                c = heap[child = right];
+            }
+            if (counter.count <= c.count) break;
+            heap[slot] = c;
+            c.slot = slot;
+            slot = child;
+        }
+        heap[slot] = counter;
+        counter.slot = slot;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        return capacity;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K> Counter<K>[] newArray(int length) {
+        return (Counter<K>[]) new Counter[Math.max(1, length)];
+    }
+
+    // Count is stored raw; the effective count is count - offset (MISRA_GRIES).
+    // error is the count inherited on a SPACE_SAVING takeover
+    private static final class Counter<K> {
+        K key;
+        long count;
+        long error;
+        int slot;
+
+        Counter(K key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+    }
+
+    // ---------------------------------------------------------------- results
+
+    // One key's estimate. lowerBound <= true weight <= upperBound
+    public static final class Entry<K> {
+        private final K key;
+        private final long count;
+        private final long lowerBound;
+        private final long upperBound;
+
+        Entry(K key, long count, long lowerBound, long upperBound) {
+            this.key = key;
+            this.count = count;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        public K key() {
+            return key;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long lowerBound() {
+            return lowerBound;
+        }
+
+        public long upperBound() {
+            return upperBound;
+        }
+
+        @Override
+        public String toString() {
+            return lowerBound == upperBound ? key + "=" + count
+                    : key + "=" + count + " [" + lowerBound + ".." + upperBound + "]";
+        }
+    }
+
+    // Immutable copy of a summary's counters
+    public static final class Snapshot<K> {
+        private final Object[] keys;
+        private final long[] counts;
+        private final long[] lower;
+        private final long[] upper;
+        private final long totalWeight;
+        private final long absentBound;
+
+        Snapshot(Object[] keys, long[] counts, long[] lower, long[] upper, long totalWeight,
+                 long absentBound) {
+            this.keys = keys;
+            this.counts = counts;
+            this.lower = lower;
+            this.upper = upper;
+            this.totalWeight = totalWeight;
+            this.absentBound = absentBound;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public long totalWeight() {
+            return totalWeight;
+        }
+
+        // Upper bound on the true weight of a key missing from this snapshot
+        public long absentBound() {
+            return absentBound;
+        }
+
+        @SuppressWarnings("unchecked")
+        public K key(int i) {
+            return (K) keys[i];
+        }
+
+        public long count(int i) {
+            return counts[i];
+        }
+
+        public long lowerBound(int i) {
+            return lower[i];
+        }
+
+        public long upperBound(int i) {
+            return upper[i];
+        }
+
+        // k largest counts, heaviest first - O(size log k) with a bounded
+        // min-heap of indices, as in TopK
+        public List<Entry<K>> top(int k) {
+            if (k <= 0) {
+                throw new IllegalArgumentException("k must be positive: " + k);
+            }
+            int n = keys.length;
+            int[] best = new int[Math.min(k, n)];
+            int held = 0;
+            for (int i = 0; i < n; i++) {
+                if (held < best.length) {
+                    int child = held++;
+                    while (child > 0) {
+                        int parent = (child - 1) >>> 1;
+                        if (counts[best[parent]] <= counts[i]) break;
+                        best[child] = best[parent];
+                        child = parent;
+                    }
+                    best[child] = i;
+                } else if (counts[i] > counts[best[0]]) {
+                    siftDownIndex(best, held, i);
+                }
+            }
+            Entry<K>[] result = newEntries(held);
+            for (int end = held - 1; end >= 0; end--) {
+                int min = best[0];
+                result[end] = entry(min);
+                siftDownIndex(best, end, best[end]);
+            }
+            return Arrays.asList(result);
+        }
+
+        private void siftDownIndex(int[] h, int n, int index) {
+            int slot = 0;
+            int child;
+            while ((child = 2 * slot + 1) < n) {
+                if (child + 1 < n && counts[h[child + 1]] < counts[h[child]]) child++;
+                if (counts[index] <= counts[h[child]]) break;
+                h[slot] = h[child];
+                slot = child;
+            }
+            if (n > 0) h[slot] = index;
+        }
+
+        private Entry<K> entry(int i) {
+            return new Entry<>(key(i), counts[i], lower[i], upper[i]);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <K> Entry<K>[] newEntries(int n) {
+            return (Entry<K>[]) new Entry[n];
+        }
+    }
+}
+
+/*
+ ============================================================================
+                  HEAVY HITTER SUMMARIES (n updates, m counters)
+ ============================================================================
+
+ | Mode          | Memory       | Update       | Estimate vs true weight
+ |---------------|--------------|--------------|-------------------------------
+ | EXACT         | O(distinct)  | O(log d)     | exact
+ | SPACE_SAVING  | O(m)         | O(log m)     | over by <= total / m
+ | MISRA_GRIES   | O(m)         | O(log m)     | under by <= total / (m + 1)
+
+ Top-k from a summary is only meaningful when the k-th heaviest key weighs
+ well above total / m; size m at a few times k for skewed (Zipfian) streams.
+ For "the last hour" use WindowedHeavyHitters, which keeps one summary per
+ time slice and merges them on query.
+
+ ============================================================================
+*/
@@ -0,0 +1,296 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+
+// Indexed d-ary heap: a priority queue of distinct keys where every key
+// knows its slot, so changing or removing a queued key is O(log n) instead
+// of PriorityQueue.remove(Object)'s O(n) scan + re-insert.
+//
+// Each key gets one Slot (its current heap position), found through a
+// HashMap; sifts move slots and rewrite their positions. Priorities are
+// longs in their own array, so a sift compares packed primitives and only
+// touches the slot objects it actually moves.
+//
+// Sibling groups are contiguous: the root sits at array index arity - 1,
+// which puts the children of every node at a multiple of arity. With arity
+// 8 the 8 child priorities a sift-down compares are one 64-byte run. That
+// is not a cache line: long[] data starts 16 bytes past the object header
+// and the JVM neither aligns nor pins arrays to 64 bytes, so a group
+// usually straddles two lines (at most two - never three). Arity 4 halves
+// the run and keeps the tree shallow. Higher arity = cheaper sift-up
+// (update to a better priority), dearer sift-down (poll). One class covers
+// every arity; minFirst(8) / maxFirst(8) pick the 8-ary layout.
+//
+// Min-first by default; maxFirst(...) stores ~priority, which reverses the
+// order exactly (no overflow at Long.MIN_VALUE, unlike negation).
+//
+// Not thread-safe, like PriorityQueue: guard it with a lock when shared.
+// The d-ary member of the KeyedHeap family (see PairingHeap, RadixHeap).
+public final class IndexedHeap<K> implements KeyedHeap<K> {
+    static final int DEFAULT_ARITY = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int arity;
+    private final int root;                  // arity - 1
+    private final long flip;                 // 0 (min-first) or -1 (max-first)
+    private final HashMap<K, Slot<K>> slots;
+    private long[] priorities;               // Stored priority (priority ^ flip) per position
+    private Slot<K>[] heap;
+    private int size;
+
+    private IndexedHeap(int arity, boolean maxFirst) {
+        if (arity < 2 || arity > 64) {
+            throw new IllegalArgumentException("arity must be in [2, 64]: " + arity);
+        }
+        this.arity = arity;
+        this.root = arity - 1;
+        this.flip = maxFirst ? -1L : 0L;
+        this.slots = new HashMap<>();
+        this.priorities = new long[root + INITIAL_CAPACITY];
+        this.heap = newArray(root + INITIAL_CAPACITY);
+    }
+
+    // Smallest priority first, 4-ary
+    public static <K> IndexedHeap<K> minFirst() {
+        return new IndexedHeap<>(DEFAULT_ARITY, false);
+    }
+
+    public static <K> IndexedHeap<K> minFirst(int arity) {
+        return new IndexedHeap<>(arity, false);
+    }
+
+    // Largest priority first, 4-ary
+    public static <K> IndexedHeap<K> maxFirst() {
+        return new IndexedHeap<>(DEFAULT_ARITY, true);
+    }
+
+    public static <K> IndexedHeap<K> maxFirst(int arity) {
+        return new IndexedHeap<>(arity, true);
+    }
+
+    // O(log n); a key can be queued once - use update() to move it
+    @Override
+    public void offer(K key, long priority) {
+        Objects.requireNonNull(key);
+        Slot<K> slot = new Slot<>(key);
+        if (slots.putIfAbsent(key, slot) != null) {
+            throw new IllegalArgumentException("Already queued: " + key);
+        }
+        if (root + size == heap.length) {
+            grow();
+        }
+        siftUp(root + size++, slot, priority ^ flip);
+    }
+
+    // Offers the key, or moves it if it is already queued
+    public void put(K key, long priority) {
+        if (!update(key, priority)) {
+            offer(key, priority);
+        }
+    }
+
+    // Changes a queued key's priority in O(log n) - decrease-key and
+    // increase-key; false if the key is not queued
+    @Override
+    public boolean update(K key, long priority) {
+        Slot<K> slot = slots.get(key);
+        if (slot == null) {
+            return false;
+        }
+        long stored = priority ^ flip;
+        long old = priorities[slot.position];
+        if (stored < old) {
+            siftUp(slot.position, slot, stored);
+        } else if (stored > old) {
+            siftDown(slot.position, slot, stored);
+        }
+        return true;
+    }
+
+    // O(log n); false if the key is not queued
+    @Override
+    public boolean remove(Object key) {
+        Slot<K> slot = slots.remove(key);
+        if (slot == null) {
+            return false;
+        }
+        removeAt(slot.position);
+        return true;
+    }
+
+    // O(1)
+    @Override
+    public boolean contains(Object key) {
+        return slots.containsKey(key);
+    }
+
+    // Priority of a queued key
+    @Override
+    public long priority(Object key) {
+        Slot<K> slot = slots.get(key);
+        if (slot == null) {
+            throw new NoSuchElementException("Not queued: " + key);
+        }
+        return priorities[slot.position] ^ flip;
+    }
+
+    // Head key, or null when empty - O(1)
+    @Override
+    public K peek() {
+        return size == 0 ? null : heap[root].key;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[root] ^ flip;
+    }
+
+    // Removes and returns the head key, or null when empty - O(arity log n)
+    @Override
+    public K poll() {
+        if (size == 0) {
+            return null;
+        }
+        K key = heap[root].key;
+        slots.remove(key);
+        removeAt(root);
+        return key;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(heap, root, root + size, null);
+        slots.clear();
+        size = 0;
+    }
+
+    // Fills the hole at position with the last slot and restores order
+    private void removeAt(int position) {
+        int last = root + --size;
+        Slot<K> moved = heap[last];
+        long stored = priorities[last];
+        heap[last] = null;
+        if (position == last) {
+            return;
+        }
+        if (stored < priorities[position]) {
+            siftUp(position, moved, stored);
+        } else {
+            siftDown(position, moved, stored);
+        }
+    }
+
+    // Hole-based: parents move down into the hole, the slot is written once
+    private void siftUp(int position, Slot<K> slot, long stored) {
+        while (position > root) {
+            int parent = position / arity + arity - 2;
+            long parentPriority = priorities[parent];
+            if (parentPriority <= stored) {
+                break;
+            }
+            place(position, heap[parent], parentPriority);
+            position = parent;
+        }
+        place(position, slot, stored);
+    }
+
+    private void siftDown(int position, Slot<K> slot, long stored) {
+        int end = root + size;
+        // Parent of the last entry. Checked before computing 'first': for a
+        // leaf deep in a large heap, arity * (position - arity + 2) can pass
+        // Integer.MAX_VALUE (arity 64 at ~33.5M entries) and wrap negative
+        int lastParent = (end - 1) / arity + arity - 2;
+        while (position <= lastParent) {
+            int first = arity * (position - arity + 2);   // Multiple of arity, < end
+            int last = first + Math.min(arity, end - first);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int child = first + 1; child < last; child++) {
+                long p = priorities[child];
+                if (p < bestPriority) {
+                    best = child;
+                    bestPriority = p;
+                }
+            }
+            if (bestPriority >= stored) {
+                break;
+            }
+            place(position, heap[best], bestPriority);
+            position = best;
+        }
+        place(position, slot, stored);
+    }
+
+    private void place(int position, Slot<K> slot, long stored) {
+        heap[position] = slot;
+        priorities[position] = stored;
+        slot.position = position;
+    }
+
+    private void grow() {
+        int length = heap.length + (heap.length >> 1);
+        heap = Arrays.copyOf(heap, length);
+        priorities = Arrays.copyOf(priorities, length);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K> Slot<K>[] newArray(int length) {
+        return (Slot<K>[]) new Slot[length];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = root; i < root + size; i++) {
+            if (i > root) sb.append(", ");
+            sb.append(heap[i].key).append('=').append(priorities[i] ^ flip);
+        }
+        return sb.append(']').toString();
+    }
+
+    // A queued key and its current array position
+    private static final class Slot<K> {
+        final K key;
+        int position;
+
+        Slot(K key) {
+            this.key = key;
+        }
+    }
+}
+
+/*
+ ============================================================================
+          INDEXED HEAP VS PRIORITYQUEUE (n queued keys, d = arity)
+ ============================================================================
+
+ | Operation             | PriorityQueue                | IndexedHeap
+ |-----------------------|------------------------------|---------------------------
+ | offer                 | O(log2 n)                    | O(log_d n) + HashMap put
+ | poll                  | O(log2 n)                    | O(d log_d n) + HashMap remove
+ | contains(key)         | O(n) scan                    | O(1)
+ | remove(key)           | O(n) scan + O(log n)         | O(d log_d n)
+ | change priority       | remove(key) + offer: O(n)    | update(key, p): O(log_d n) up,
+ |                       |                              | O(d log_d n) down
+ | duplicate keys        | allowed                      | one entry per key (equals)
+ | memory per entry      | 1 reference                  | Slot + HashMap node + long
+
+ ============================================================================
+*/
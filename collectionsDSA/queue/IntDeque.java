@@ -0,0 +1,191 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+
+// Double-ended queue of primitive ints on a circular int[] - the same layout
+// as ArrayDeque (power-of-two capacity, head/tail wrap with a mask), but no
+// Integer boxes and no per-element allocation after warm-up.
+//
+// Monotonic-queue helpers (sliding window max/min) work on indices into a
+// caller's int[]: the deque holds indices whose values are decreasing (max)
+// or increasing (min) from head to tail, so the head is always the answer.
+public class IntDeque {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] elements;
+    private int head;   // Index of the first element
+    private int size;
+
+    public IntDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntDeque(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expectedSize);
+        }
+        this.elements = new int[capacityFor(expectedSize)];
+    }
+
+    // O(1) amortized
+    public void addFirst(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    // O(1) amortized
+    public void addLast(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    // O(1), throws NoSuchElementException when empty (like ArrayDeque.removeFirst)
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    public int peekFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    public int peekLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    // i-th element from the head - O(1)
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // ---------------------------------------------------------------- monotonic queue
+
+    // Sliding window max step: drop tail indices whose value is < values[index],
+    // then append index. O(1) amortized - each index is appended and dropped once
+    public void pushMaxCandidate(int index, int[] values) {
+        int mask = elements.length - 1;
+        int value = values[index];
+        while (size > 0 && values[elements[(head + size - 1) & mask]] < value) {
+            size--;
+        }
+        addLast(index);
+    }
+
+    // Sliding window min step: drop tail indices whose value is > values[index]
+    public void pushMinCandidate(int index, int[] values) {
+        int mask = elements.length - 1;
+        int value = values[index];
+        while (size > 0 && values[elements[(head + size - 1) & mask]] > value) {
+            size--;
+        }
+        addLast(index);
+    }
+
+    // Drop head indices that fell out of the window (index < windowStart)
+    public void evictBefore(int windowStart) {
+        int mask = elements.length - 1;
+        while (size > 0 && elements[head] < windowStart) {
+            head = (head + 1) & mask;
+            size--;
+        }
+    }
+
+    // Head to tail - O(n)
+    public int[] toArray() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = elements[(head + i) & (elements.length - 1)];
+        }
+        return result;
+    }
+
+    // Double and unwrap so head is at 0 again
+    private void grow() {
+        if (elements.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Deque too big");
+        }
+        int[] larger = new int[elements.length << 1];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, size - firstPart);
+        elements = larger;
+        head = 0;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        if (expectedSize <= 1) {
+            return 2;
+        }
+        if (expectedSize >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit(expectedSize - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
+
+/*
+ ============================================================================
+                    INTDEQUE VS ARRAYDEQUE<INTEGER>
+ ============================================================================
+
+ | Operation              | IntDeque        | ArrayDeque<Integer>
+ |------------------------|-----------------|--------------------
+ | addFirst / addLast     | O(1) amortized  | O(1) amortized + Integer.valueOf
+ | removeFirst/removeLast | O(1)            | O(1)
+ | peekFirst / peekLast   | O(1), int       | O(1), unboxes
+ | empty peek/remove      | throws          | peek returns null
+ | Memory per element     | 4 bytes         | 4 byte reference + 16 byte Integer
+
+ Monotonic queue (sliding window over n values, window k):
+ - each index is pushed once and removed once -> O(n) total, O(k) space
+ - pushMaxCandidate / pushMinCandidate / evictBefore run on the raw int[],
+   no peek()/poll() boxing per comparison
+
+ ============================================================================
+*/
@@ -0,0 +1,49 @@
+package collectionsDSA.queue;
+
+// Common interface of the addressable heaps in this package: a priority
+// queue of distinct keys with long priorities, where a queued key can be
+// found again to change its priority (decrease-key) or remove it.
+//
+// Implementations:
+// - IndexedHeap - implicit d-ary heap in arrays (arity 2..64, 4 and 8 are
+//   the cache-friendly ones), O(log n) everything
+// - PairingHeap - heap-ordered multiway tree, O(1) offer and decrease-key,
+//   O(log n) amortized poll
+// - RadixHeap   - buckets by highest differing bit, for monotone priorities
+//   (nothing below the last polled priority), O(1) decrease-key
+//
+// All order smallest priority first (IndexedHeap.maxFirst flips that).
+// Keys are matched with equals/hashCode. None are thread-safe.
+public interface KeyedHeap<K> {
+
+    // Queues key with priority; IllegalArgumentException if already queued
+    void offer(K key, long priority);
+
+    // Changes a queued key's priority; false if the key is not queued
+    boolean update(K key, long priority);
+
+    // false if the key is not queued
+    boolean remove(Object key);
+
+    boolean contains(Object key);
+
+    // Priority of a queued key; NoSuchElementException if not queued
+    long priority(Object key);
+
+    // Head key, or null when empty
+    K peek();
+
+    // Head priority; NoSuchElementException when empty
+    long peekPriority();
+
+    // Removes and returns the head key, or null when empty
+    K poll();
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    void clear();
+}
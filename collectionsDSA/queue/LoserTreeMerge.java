@@ -0,0 +1,291 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+// K-way merge of sorted runs with a tournament (loser) tree - the
+// PriorityQueueDSA.mergeSortedArrays algorithm without a PriorityQueue and
+// without an ArrayEntry object per element.
+//
+// The tree has one leaf per run and k - 1 internal nodes. Each internal node
+// remembers the run that LOST the match played there; slot 0 holds the
+// overall winner. After the winner's element is emitted, only the matches on
+// its leaf-to-root path are replayed: exactly ceil(log2 k) comparisons per
+// element, against a binary heap's up to 2 log2 k for poll + offer, and no
+// sift of a separate entry object.
+//
+// Ties go to the lower run index, so the merge is stable: equal elements come
+// out in run order. An exhausted run loses every match.
+//
+// Inputs: int[] / long[] runs, streaming long runs (PrimitiveIterator.OfLong),
+// or Lists of Comparable (or any type with a Comparator). Output: a new
+// array, the caller's buffer, or a sink that gets each element as it is
+// decided (so the merged result never has to exist).
+public final class LoserTreeMerge {
+    // Packed key of an exhausted int run; loses to every real key
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private LoserTreeMerge() {
+    }
+
+    // ---------------------------------------------------------------- int
+
+    public static int[] merge(int[]... runs) {
+        long total = 0;
+        for (int[] run : runs) total += run.length;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged size too large for an array: " + total);
+        }
+        int[] out = new int[(int) total];
+        merge(runs, out, 0);
+        return out;
+    }
+
+    // Writes the merge into out[offset..], returns the element count
+    public static int merge(int[][] runs, int[] out, int offset) {
+        int[] cursor = {offset};
+        merge(runs, value -> out[cursor[0]++] = value);
+        return cursor[0] - offset;
+    }
+
+    // Streams the merge into sink - O(n log k) time, O(k) extra space.
+    // Each tree slot holds a packed key (value << 32 | run), so one long
+    // compare orders by value and breaks ties by run index, and a replay
+    // never goes back to the run arrays. Exhausted runs hold EXHAUSTED,
+    // which is above every real key (a real key's run index is < 2^31).
+    public static void merge(int[][] runs, IntConsumer sink) {
+        int k = runs.length;
+        if (k == 0) return;
+        int[] pos = new int[k];
+        long[] tree = new long[k];
+        // Build bottom-up: winners[] only lives for the build
+        long[] winners = new long[2 * k];
+        for (int i = 0; i < k; i++) winners[k + i] = key(runs[i], 0, i);
+        for (int node = k - 1; node >= 1; node--) {
+            long a = winners[2 * node];
+            long b = winners[2 * node + 1];
+            winners[node] = Math.min(a, b);
+            tree[node] = Math.max(a, b);
+        }
+        long winner = winners[1];   // Also right for k == 1: the only leaf is slot 1
+        while (winner != EXHAUSTED) {
+            int run = (int) winner;
+            sink.accept((int) (winner >> 32));
+            winner = key(runs[run], ++pos[run], run);
+            // Replay the winner's path to the root
+            for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+                long loser = tree[node];
+                if (loser < winner) {
+                    tree[node] = winner;
+                    winner = loser;
+                }
+            }
+        }
+    }
+
+    private static long key(int[] run, int index, int runIndex) {
+        return index < run.length ? (long) run[index] << 32 | runIndex : EXHAUSTED;
+    }
+
+    // ---------------------------------------------------------------- long
+
+    public static long[] merge(long[]... runs) {
+        long total = 0;
+        for (long[] run : runs) total += run.length;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged size too large for an array: " + total);
+        }
+        long[] out = new long[(int) total];
+        merge(runs, out, 0);
+        return out;
+    }
+
+    public static int merge(long[][] runs, long[] out, int offset) {
+        int[] cursor = {offset};
+        merge(runs, value -> out[cursor[0]++] = value);
+        return cursor[0] - offset;
+    }
+
+    public static void merge(long[][] runs, LongConsumer sink) {
+        int k = runs.length;
+        if (k == 0) return;
+        int[] pos = new int[k];
+        int[] tree = new int[k];
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) winners[k + i] = i;
+        for (int node = k - 1; node >= 1; node--) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(runs, pos, a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+        int winner = winners[1];
+        while (pos[winner] < runs[winner].length) {
+            sink.accept(runs[winner][pos[winner]++]);
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                int loser = tree[node];
+                if (beats(runs, pos, loser, winner)) {
+                    tree[node] = winner;
+                    winner = loser;
+                }
+            }
+        }
+    }
+
+    private static boolean beats(long[][] runs, int[] pos, int a, int b) {
+        if (pos[a] == runs[a].length) return false;
+        if (pos[b] == runs[b].length) return true;
+        long x = runs[a][pos[a]];
+        long y = runs[b][pos[b]];
+        return x < y || (x == y && a < b);
+    }
+
+    // Streaming runs (e.g. ExternalSort's run files): each head is pulled
+    // once into heads[], so a replay compares cached longs, not iterators
+    public static void merge(PrimitiveIterator.OfLong[] runs, LongConsumer sink) {
+        int k = runs.length;
+        if (k == 0) return;
+        long[] heads = new long[k];
+        boolean[] done = new boolean[k];
+        for (int i = 0; i < k; i++) advance(runs, heads, done, i);
+        int[] tree = new int[k];
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) winners[k + i] = i;
+        for (int node = k - 1; node >= 1; node--) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(heads, done, a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+        int winner = winners[1];
+        while (!done[winner]) {
+            sink.accept(heads[winner]);
+            advance(runs, heads, done, winner);
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                int loser = tree[node];
+                if (beats(heads, done, loser, winner)) {
+                    tree[node] = winner;
+                    winner = loser;
+                }
+            }
+        }
+    }
+
+    private static void advance(PrimitiveIterator.OfLong[] runs, long[] heads, boolean[] done, int run) {
+        if (runs[run].hasNext()) {
+            heads[run] = runs[run].nextLong();
+        } else {
+            done[run] = true;
+        }
+    }
+
+    private static boolean beats(long[] heads, boolean[] done, int a, int b) {
+        if (done[a]) return false;
+        if (done[b]) return true;
+        return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    // ---------------------------------------------------------------- objects
+
+    public static <T extends Comparable<? super T>> List<T> merge(List<? extends List<? extends T>> runs) {
+        return merge(runs, Comparator.<T>naturalOrder());
+    }
+
+    public static <T> List<T> merge(List<? extends List<? extends T>> runs, Comparator<? super T> order) {
+        int total = 0;
+        for (List<? extends T> run : runs) total += run.size();
+        List<T> out = new ArrayList<>(total);
+        merge(runs, order, out::add);
+        return out;
+    }
+
+    // Runs are walked with their iterators, so LinkedList runs stay O(1) per
+    // element (the old get(i) loop was O(n) per read on a LinkedList)
+    public static <T> void merge(List<? extends List<? extends T>> runs, Comparator<? super T> order,
+                                 Consumer<? super T> sink) {
+        int k = runs.size();
+        if (k == 0) return;
+        Iterator<?>[] iterators = new Iterator<?>[k];
+        Object[] heads = new Object[k];      // Current element of each run
+        boolean[] done = new boolean[k];
+        int r = 0;
+        for (List<? extends T> run : runs) {
+            iterators[r] = run.iterator();
+            advance(iterators, heads, done, r++);
+        }
+        int[] tree = new int[k];
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) winners[k + i] = i;
+        for (int node = k - 1; node >= 1; node--) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(order, heads, done, a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+        int winner = winners[1];
+        while (!done[winner]) {
+            @SuppressWarnings("unchecked")
+            T value = (T) heads[winner];
+            sink.accept(value);
+            advance(iterators, heads, done, winner);
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                int loser = tree[node];
+                if (beats(order, heads, done, loser, winner)) {
+                    tree[node] = winner;
+                    winner = loser;
+                }
+            }
+        }
+    }
+
+    private static void advance(Iterator<?>[] iterators, Object[] heads, boolean[] done, int run) {
+        if (iterators[run].hasNext()) {
+            heads[run] = iterators[run].next();
+        } else {
+            heads[run] = null;
+            done[run] = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> boolean beats(Comparator<? super T> order, Object[] heads, boolean[] done, int a, int b) {
+        if (done[a]) return false;
+        if (done[b]) return true;
+        int c = order.compare((T) heads[a], (T) heads[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+}
+
+/*
+ ============================================================================
+          LOSER TREE VS PRIORITYQUEUE<ARRAYENTRY> (k runs, n elements)
+ ============================================================================
+
+ | Aspect                 | PriorityQueue<ArrayEntry>     | LoserTreeMerge
+ |------------------------|-------------------------------|-----------------------------
+ | Comparisons / element  | up to ~2 log2 k (poll+offer)  | ceil(log2 k), fixed path
+ | Allocation / element   | one ArrayEntry (+ Integer box | none (int[]/long[] runs)
+ |                        | on result.add)                |
+ | Stable for equal keys  | no                            | yes (lower run index first)
+ | Output                 | List<Integer>                 | array, caller's buffer, sink
+ | Extra space            | O(k) entries                  | O(k) ints / longs
+
+ ============================================================================
+*/
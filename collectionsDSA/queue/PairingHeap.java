@@ -0,0 +1,213 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+
+// Pairing heap: a heap-ordered multiway tree kept as first-child /
+// next-sibling links. Every operation is a "link" of two trees (the larger
+// root becomes the smaller root's first child) or a cut:
+//
+// - offer: link a one-node tree with the root              O(1)
+// - decrease-key: cut the node's subtree, link it to root  O(1) (amortized
+//   o(log n); very cheap in practice)
+// - poll: drop the root, pair its children left to right,
+//   then fold the pairs right to left (two-pass)           O(log n) amortized
+//
+// The KeyedHeap to reach for when updates that improve a priority dominate
+// (Dijkstra, Prim): no sift at all. Costs a node object per key and pointer
+// chasing on poll, where IndexedHeap's arrays win.
+//
+// prev points to the parent for a first child and to the left sibling
+// otherwise, so a cut never has to search.
+public final class PairingHeap<K> implements KeyedHeap<K> {
+    private final HashMap<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> root;
+
+    // O(1)
+    @Override
+    public void offer(K key, long priority) {
+        Objects.requireNonNull(key);
+        Node<K> node = new Node<>(key, priority);
+        if (nodes.putIfAbsent(key, node) != null) {
+            throw new IllegalArgumentException("Already queued: " + key);
+        }
+        root = root == null ? node : link(root, node);
+    }
+
+    // Decrease: O(1) cut + link. Increase: the node's children are re-paired
+    // as for a removal, then the node is linked back - O(log n) amortized
+    @Override
+    public boolean update(K key, long priority) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return false;
+        }
+        if (priority < node.priority) {
+            node.priority = priority;
+            if (node != root) {
+                cut(node);
+                root = link(root, node);
+            }
+        } else if (priority > node.priority) {
+            detach(node);
+            node.priority = priority;
+            root = root == null ? node : link(root, node);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        detach(node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public long priority(Object key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            throw new NoSuchElementException("Not queued: " + key);
+        }
+        return node.priority;
+    }
+
+    // O(1)
+    @Override
+    public K peek() {
+        return root == null ? null : root.key;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return root.priority;
+    }
+
+    // O(log n) amortized
+    @Override
+    public K poll() {
+        if (root == null) {
+            return null;
+        }
+        Node<K> head = root;
+        nodes.remove(head.key);
+        root = combine(head.child);
+        head.child = null;
+        return head.key;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    // Takes node (and only node) out of the tree; its children stay in
+    private void detach(Node<K> node) {
+        Node<K> children = node.child;
+        node.child = null;
+        if (node == root) {
+            root = combine(children);
+            return;
+        }
+        cut(node);
+        Node<K> merged = combine(children);
+        if (merged != null) {
+            root = link(root, merged);
+        }
+    }
+
+    // Unhooks node's subtree from its parent / siblings
+    private static <K> void cut(Node<K> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    // Two roots (no prev/next) -> one; the loser becomes the first child
+    private static <K> Node<K> link(Node<K> a, Node<K> b) {
+        if (b.priority < a.priority) {
+            Node<K> t = a;
+            a = b;
+            b = t;
+        }
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        b.prev = a;
+        a.child = b;
+        return a;
+    }
+
+    // Two-pass pairing of a sibling list, without an auxiliary list: pass 1
+    // links neighbours left to right and chains the results in reverse via
+    // next; pass 2 folds that chain (right to left in the original order)
+    private static <K> Node<K> combine(Node<K> first) {
+        if (first == null) {
+            return null;
+        }
+        Node<K> pairs = null;
+        Node<K> a = first;
+        while (a != null) {
+            Node<K> b = a.next;
+            Node<K> rest = b == null ? null : b.next;
+            a.prev = null;
+            a.next = null;
+            Node<K> merged = a;
+            if (b != null) {
+                b.prev = null;
+                b.next = null;
+                merged = link(a, b);
+            }
+            merged.next = pairs;
+            pairs = merged;
+            a = rest;
+        }
+        Node<K> result = pairs;
+        Node<K> rest = pairs.next;
+        result.next = null;
+        while (rest != null) {
+            Node<K> following = rest.next;
+            rest.next = null;
+            result = link(result, rest);
+            rest = following;
+        }
+        return result;
+    }
+
+    private static final class Node<K> {
+        final K key;
+        long priority;
+        Node<K> child;    // First child
+        Node<K> next;     // Next sibling
+        Node<K> prev;     // Parent if first child, else previous sibling
+
+        Node(K key, long priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+}
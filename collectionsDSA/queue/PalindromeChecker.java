@@ -0,0 +1,266 @@
+package collectionsDSA.queue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Two-pointer palindrome check that reads its input in place - no
+// toCharArray() copy, no ArrayDeque<Character>, no allocation per character.
+//
+// Inputs:
+// - CharSequence (String, StringBuilder, CharBuffer, ...)
+// - ByteBuffer / MappedByteBuffer holding UTF-8 text, between position and
+//   limit; the buffer's position is not moved
+// - a file of any size, mapped in MAP_WINDOW slices from each end, so a
+//   multi-GB file never lands on the heap
+//
+// Comparison is by code point, so a surrogate pair or a multi-byte UTF-8
+// sequence counts as one character. Malformed UTF-8 bytes are compared as
+// single raw bytes (never letters or digits).
+//
+// Flags, like java.util.regex.Pattern's:
+//   IGNORE_CASE        'A' == 'a' (Unicode simple case folding)
+//   ALPHANUMERIC_ONLY  skip everything that is not a letter or digit
+//   NORMALIZED         both - "A man, a plan, a canal: Panama" is a palindrome
+public final class PalindromeChecker {
+    public static final int IGNORE_CASE = 1;
+    public static final int ALPHANUMERIC_ONLY = 2;
+    public static final int NORMALIZED = IGNORE_CASE | ALPHANUMERIC_ONLY;
+
+    // Bytes mapped at a time from each end of a file
+    static final int MAP_WINDOW = 64 << 20;
+
+    private PalindromeChecker() {
+    }
+
+    // Exact comparison - O(n) time, O(1) space
+    public static boolean isPalindrome(CharSequence text) {
+        return isPalindrome(text, 0);
+    }
+
+    public static boolean isPalindrome(CharSequence text, int flags) {
+        boolean ignoreCase = (flags & IGNORE_CASE) != 0;
+        boolean skip = (flags & ALPHANUMERIC_ONLY) != 0;
+        int left = 0;
+        int right = text.length();   // Exclusive
+        while (left < right) {
+            int first = Character.codePointAt(text, left);
+            if (skip && !isLetterOrDigit(first)) {
+                left += Character.charCount(first);
+                continue;
+            }
+            int last = Character.codePointBefore(text, right);
+            if (skip && !isLetterOrDigit(last)) {
+                right -= Character.charCount(last);
+                continue;
+            }
+            right -= Character.charCount(last);
+            if (left >= right) {
+                return true;   // Both pointers are on the middle character
+            }
+            if (first != last && !(ignoreCase && fold(first) == fold(last))) {
+                return false;
+            }
+            left += Character.charCount(first);
+        }
+        return true;
+    }
+
+    // UTF-8 bytes between position and limit - O(n) time, O(1) space
+    public static boolean isPalindrome(ByteBuffer utf8, int flags) {
+        ByteWindow bytes = new ByteWindow(utf8);
+        return isPalindrome(bytes, bytes, utf8.position(), utf8.limit(), flags);
+    }
+
+    // UTF-8 file of any size. Two read-only windows walk in from the ends, so
+    // at most 2 * MAP_WINDOW bytes are mapped at once
+    public static boolean isPalindrome(Path utf8File, int flags) throws IOException {
+        try (FileChannel channel = FileChannel.open(utf8File, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteWindow front = new ByteWindow(channel, size, true);
+            ByteWindow back = new ByteWindow(channel, size, false);
+            return isPalindrome(front, back, 0, size, flags);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isPalindrome(ByteWindow front, ByteWindow back, long left, long right,
+                                        int flags) {
+        boolean ignoreCase = (flags & IGNORE_CASE) != 0;
+        boolean skip = (flags & ALPHANUMERIC_ONLY) != 0;
+        while (left < right) {
+            byte b = front.byteAt(left);   // ASCII inline, the rest decoded
+            long decoded = b >= 0 ? (1L << 32) | b : decodeForward(front, left, right);
+            int first = (int) decoded;
+            if (skip && !isLetterOrDigit(first)) {
+                left += decoded >>> 32;
+                continue;
+            }
+            b = back.byteAt(right - 1);
+            long decodedLast = b >= 0 ? (1L << 32) | b : decodeBackward(back, right, left);
+            int last = (int) decodedLast;
+            if (skip && !isLetterOrDigit(last)) {
+                right -= decodedLast >>> 32;
+                continue;
+            }
+            right -= decodedLast >>> 32;
+            if (left >= right) {
+                return true;
+            }
+            if (first != last && !(ignoreCase && fold(first) == fold(last))) {
+                return false;
+            }
+            left += decoded >>> 32;
+        }
+        return true;
+    }
+
+    // ---------------------------------------------------------------- UTF-8
+
+    // Code point starting at pos, packed as (byteLength << 32) | codePoint.
+    // Malformed input decodes as one byte with codePoint = -1 - byte
+    private static long decodeForward(ByteWindow bytes, long pos, long limit) {
+        int b0 = bytes.byteAt(pos) & 0xFF;
+        if (b0 < 0x80) {
+            return (1L << 32) | b0;
+        }
+        int length = sequenceLength(b0);
+        if (length == 0 || pos + length > limit) {
+            return malformed(b0);
+        }
+        int codePoint = b0 & (0xFF >>> (length + 1));
+        for (int i = 1; i < length; i++) {
+            int b = bytes.byteAt(pos + i) & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                return malformed(b0);
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        return ((long) length << 32) | codePoint;
+    }
+
+    // Code point ending just before end (not reaching below floor)
+    private static long decodeBackward(ByteWindow bytes, long end, long floor) {
+        int last = bytes.byteAt(end - 1) & 0xFF;
+        if (last < 0x80) {
+            return (1L << 32) | last;
+        }
+        if ((last & 0xC0) == 0x80) {
+            // Continuation byte: find the lead byte at most 3 bytes further back
+            for (int length = 2; length <= 4 && end - length >= floor; length++) {
+                int lead = bytes.byteAt(end - length) & 0xFF;
+                if ((lead & 0xC0) == 0x80) {
+                    continue;
+                }
+                if (sequenceLength(lead) == length) {
+                    long decoded = decodeForward(bytes, end - length, end);
+                    if (decoded >>> 32 == length) {
+                        return decoded;
+                    }
+                }
+                break;
+            }
+        }
+        return malformed(last);
+    }
+
+    private static int sequenceLength(int leadByte) {
+        if (leadByte >= 0xC2 && leadByte < 0xE0) return 2;
+        if (leadByte >= 0xE0 && leadByte < 0xF0) return 3;
+        if (leadByte >= 0xF0 && leadByte < 0xF5) return 4;
+        return 0;
+    }
+
+    private static long malformed(int b) {
+        return (1L << 32) | ((-1 - b) & 0xFFFFFFFFL);
+    }
+
+    // ---------------------------------------------------------------- characters
+
+    private static boolean isLetterOrDigit(int codePoint) {
+        if (codePoint < 0x80) {
+            return codePoint >= 0 && ((codePoint | 0x20) - 'a' < 26 && (codePoint | 0x20) >= 'a'
+                    || codePoint - '0' < 10 && codePoint >= '0');
+        }
+        return Character.isLetterOrDigit(codePoint);
+    }
+
+    // Same folding as String.equalsIgnoreCase; ASCII without table lookups
+    private static int fold(int codePoint) {
+        if (codePoint < 0x80) {
+            return codePoint - 'A' < 26 && codePoint >= 'A' ? codePoint | 0x20 : codePoint;
+        }
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    // Byte source for one pointer. Wraps a caller's buffer as-is, or maps a
+    // MAP_WINDOW slice of a file ahead of (front) or behind (back) the pointer
+    static final class ByteWindow {
+        private final FileChannel channel;   // null: fixed buffer, never remapped
+        private final long fileSize;
+        private final boolean front;
+        private ByteBuffer buffer;
+        private long base;                   // File offset of buffer index 0
+        private long length;
+
+        ByteWindow(ByteBuffer buffer) {
+            this.channel = null;
+            this.fileSize = buffer.limit();
+            this.front = true;
+            this.buffer = buffer;
+            this.length = buffer.limit();
+        }
+
+        ByteWindow(FileChannel channel, long fileSize, boolean front) {
+            this.channel = channel;
+            this.fileSize = fileSize;
+            this.front = front;
+        }
+
+        byte byteAt(long pos) {
+            long offset = pos - base;
+            if (offset < 0 || offset >= length) {
+                remap(pos);
+                offset = pos - base;
+            }
+            return buffer.get((int) offset);
+        }
+
+        private void remap(long pos) {
+            if (channel == null) {
+                throw new IndexOutOfBoundsException("Index: " + pos);
+            }
+            base = front ? pos : Math.max(0, pos - MAP_WINDOW + 1);
+            length = Math.min(MAP_WINDOW, fileSize - base);
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
+
+/*
+ ============================================================================
+            PALINDROMECHECKER VS ARRAYDEQUEDSA.CHECKPALINDROME (ORIGINAL)
+ ============================================================================
+
+ | Aspect              | checkPalindrome (original)     | PalindromeChecker
+ |---------------------|--------------------------------|-----------------------------
+ | Copies              | toCharArray() + deque of       | none - reads the input in place
+ |                     | Character references           |
+ | Extra memory        | ~2-6 bytes per char + deque    | O(1) (two map windows for files)
+ | Work                | n adds + n polls, equals()     | n/2 comparisons, stops at first
+ |                     | per pair                       | mismatch
+ | Inputs              | String                         | CharSequence, ByteBuffer (UTF-8),
+ |                     |                                | file of any size
+ | Case / punctuation  | exact only                     | IGNORE_CASE, ALPHANUMERIC_ONLY
+ | Surrogate pairs     | compared as two chars          | one code point
+
+ ============================================================================
+*/
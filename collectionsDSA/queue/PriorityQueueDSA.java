@@ -70,6 +70,21 @@ public class PriorityQueueDSA {
             System.out.println("Processing: " + task);
         }
         
+        // Re-prioritizing: PriorityQueue needs remove(task) - an O(n) scan -
+        // plus offer. IndexedHeap finds the task's slot and sifts it, O(log n)
+        IndexedHeap<Task> scheduler = IndexedHeap.maxFirst();
+        Task backup = new Task("Backup", 2);
+        Task deploy = new Task("Deploy", 8);
+        Task report = new Task("Report", 5);
+        for (Task task : List.of(backup, deploy, report)) {
+            scheduler.offer(task, task.priority);
+        }
+        backup.priority = 20;                       // Escalated
+        scheduler.update(backup, backup.priority);  // O(log n) increase-key
+        scheduler.remove(report);                   // O(log n), no scan
+        System.out.println("Scheduler after escalating Backup, cancelling Report: " + scheduler);
+        System.out.println("Next task: " + scheduler.poll() + ", contains Report: " + scheduler.contains(report));
+        
         // 6. STRING PRIORITY QUEUE (LEXICOGRAPHIC ORDERING)
         
         System.out.println("\n=== String Priority Queue ===");
@@ -131,6 +146,19 @@ public class PriorityQueueDSA {
         System.out.println("Array: " + Arrays.toString(numbers));
         System.out.println("Top " + k + " elements: " + topK);
         
+        // Primitive results, forked across the common pool for big arrays
+        long[] scores = {42L, 7L, 99L, 13L, 64L, 5L, 88L};
+        System.out.println("Top 2 scores (long[]): " + Arrays.toString(TopK.largest(scores, 2)));
+        
+        // Streaming: (key, weight) updates that never end, bounded memory
+        HeavyHitters<String> trending = HeavyHitters.spaceSaving(4);
+        String[] events = {"java", "go", "java", "rust", "java", "go", "zig", "java", "go", "c"};
+        for (String event : events) {
+            trending.add(event);
+        }
+        trending.add("rust", 2);   // Weighted update
+        System.out.println("Top 2 of stream (Space-Saving, 4 counters): " + trending.top(2));
+        
         // 10. PRACTICAL USE CASE: MERGE SORTED ARRAYS
         
         System.out.println("\n=== Merge Sorted Arrays Example ===");
@@ -142,6 +170,27 @@ public class PriorityQueueDSA {
         List<Integer> merged = mergeSortedArrays(sortedArrays);
         System.out.println("Sorted arrays: " + sortedArrays);
         System.out.println("Merged result: " + merged);
+        int[] mergedPrimitive = mergeSortedArrays(new int[]{1, 4, 7}, new int[]{2, 5, 8}, new int[]{3, 6, 9, 10});
+        System.out.println("Merged int[] runs: " + Arrays.toString(mergedPrimitive));
+        // Streaming: the merged sequence is consumed as it is produced
+        long[] sum = {0};
+        LoserTreeMerge.merge(new long[][]{{5, 50}, {10, 20, 30}, {1}}, value -> sum[0] += value);
+        System.out.println("Sum of streamed long[] merge: " + sum[0]);
+        // External sort: 100,000 values through a 64 KB budget - spilled as
+        // sorted runs to temp files, then merged back with the same loser tree
+        try {
+            long[] shuffled = new Random(42).longs(100_000, 0, 1_000_000).toArray();
+            long[] previous = {Long.MIN_VALUE};
+            boolean[] ordered = {true};
+            long sorted = ExternalSort.sort(Arrays.stream(shuffled).iterator(), ExternalSort.MIN_MEMORY_BUDGET,
+                    java.nio.file.Path.of(System.getProperty("java.io.tmpdir")), value -> {
+                        ordered[0] &= previous[0] <= value;
+                        previous[0] = value;
+                    });
+            System.out.println("External sort of " + sorted + " values in 64 KB: ascending=" + ordered[0]);
+        } catch (java.io.IOException e) {
+            System.out.println("External sort failed: " + e);
+        }
         
         // 11. HEAP PROPERTY DEMONSTRATION
         
@@ -164,6 +213,9 @@ public class PriorityQueueDSA {
         }
         
         // 12. PERFORMANCE COMPARISON
+        // Single-shot timing, no warmup - shows the shape only. Real numbers:
+        // benchmarks/src/main/java/collectionsDSA/benchmarks/queue/PriorityQueueBenchmark.java
+        // and HeapBenchmark.java (KeyedHeap family: offer/poll/decrease-key)
         
         System.out.println("\n=== Performance Characteristics ===");
         PriorityQueue<Integer> perfQueue = new PriorityQueue<>();
@@ -185,55 +237,52 @@ public class PriorityQueueDSA {
         System.out.println("Time to add 1000 elements: " + addTime + " ns");
         System.out.println("Time to remove 1000 elements: " + removeTime + " ns");
         System.out.println("Average time per operation: " + (addTime + removeTime) / 2000 + " ns");
+        
+        // The KeyedHeap family: same operations, plus decrease-key
+        List<KeyedHeap<Integer>> heaps = List.of(IndexedHeap.minFirst(4), IndexedHeap.minFirst(8),
+            new PairingHeap<>(), new RadixHeap<>());
+        for (KeyedHeap<Integer> heap : heaps) {
+            startTime = System.nanoTime();
+            for (int i = 1000; i >= 1; i--) {
+                heap.offer(i, 10_000 + i);
+            }
+            for (int i = 1; i <= 1000; i += 2) {
+                heap.update(i, i);                  // Decrease-key on every other key
+            }
+            while (!heap.isEmpty()) {
+                heap.poll();
+            }
+            long elapsed = System.nanoTime() - startTime;
+            String name = heap instanceof IndexedHeap
+                ? ((IndexedHeap<Integer>) heap).arity() + "-ary IndexedHeap"
+                : heap.getClass().getSimpleName();
+            System.out.println(name + ": 1000 offers, 500 decrease-keys, 1000 polls in " + elapsed + " ns");
+        }
     }
     
-    // Find top K elements using min-heap
+    // Find top K elements, largest first - O(n log k) worst case (ascending
+    // input, every value enters the heap), ~n comparisons on random input;
+    // O(n) expected for large k (quickselect). Runs on a primitive min-heap
+    // (or quickselect) in TopK; only the k results are boxed
     public static List<Integer> findTopKElements(int[] nums, int k) {
-        PriorityQueue<Integer> minHeap = new PriorityQueue<>(k);
-        
-        for (int num : nums) {
-            if (minHeap.size() < k) {
-                minHeap.offer(num);
-            } else if (num > minHeap.peek()) {
-                minHeap.poll();
-                minHeap.offer(num);
-            }
+        int[] top = TopK.largest(nums, k);
+        List<Integer> result = new ArrayList<>(top.length);
+        for (int value : top) {
+            result.add(value);
         }
-        
-        List<Integer> result = new ArrayList<>(minHeap);
-        Collections.sort(result, Collections.reverseOrder());
         return result;
     }
     
-    // Merge k sorted arrays using min-heap
+    // Merge k sorted arrays - O(n log k). Runs through a loser tree in
+    // LoserTreeMerge: ~log2 k comparisons per element, no entry object per
+    // element, and each run is walked by its iterator (LinkedList-safe)
     public static List<Integer> mergeSortedArrays(List<List<Integer>> arrays) {
-        PriorityQueue<ArrayEntry> minHeap = new PriorityQueue<>();
-        List<Integer> result = new ArrayList<>();
-        
-        // Initialize heap with first element from each array
-        for (int i = 0; i < arrays.size(); i++) {
-            List<Integer> array = arrays.get(i);
-            if (!array.isEmpty()) {
-                minHeap.offer(new ArrayEntry(array.get(0), i, 0));
-            }
-        }
-        
-        // Extract minimum and add next element from same array
-        while (!minHeap.isEmpty()) {
-            ArrayEntry entry = minHeap.poll();
-            result.add(entry.value);
-            
-            List<Integer> array = arrays.get(entry.arrayIndex);
-            if (entry.elementIndex + 1 < array.size()) {
-                minHeap.offer(new ArrayEntry(
-                    array.get(entry.elementIndex + 1),
-                    entry.arrayIndex,
-                    entry.elementIndex + 1
-                ));
-            }
-        }
-        
-        return result;
+        return LoserTreeMerge.merge(arrays);
+    }
+    
+    // Primitive overload: no boxing at all, result is a plain int[]
+    public static int[] mergeSortedArrays(int[]... arrays) {
+        return LoserTreeMerge.merge(arrays);
     }
     
     // Task class implementing Comparable for natural ordering
@@ -256,24 +305,6 @@ public class PriorityQueueDSA {
             return "Task{name='" + name + "', priority=" + priority + "}";
         }
     }
-    
-    // Helper class for merge sorted arrays
-    static class ArrayEntry implements Comparable<ArrayEntry> {
-        int value;
-        int arrayIndex;
-        int elementIndex;
-        
-        public ArrayEntry(int value, int arrayIndex, int elementIndex) {
-            this.value = value;
-            this.arrayIndex = arrayIndex;
-            this.elementIndex = elementIndex;
-        }
-        
-        @Override
-        public int compareTo(ArrayEntry other) {
-            return Integer.compare(this.value, other.value);
-        }
-    }
 }
 
 /*
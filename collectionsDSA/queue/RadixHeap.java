@@ -0,0 +1,224 @@
+package collectionsDSA.queue;
+
+import java.util.*;
+
+// Radix heap for monotone priorities: no key may be queued below the last
+// polled priority (event simulation clocks, Dijkstra with non-negative edge
+// weights). Keys are filed in 65 buckets by the highest bit in which their
+// priority differs from 'last', the most recently polled priority:
+//
+//   bucket 0      - priority == last
+//   bucket b > 0  - highest differing bit is b - 1
+//
+// offer and decrease-key just relink a node: O(1). poll takes bucket 0, and
+// when it is empty, scans the first non-empty bucket for its minimum, makes
+// that the new 'last' and redistributes the bucket - every node lands in a
+// strictly lower bucket, so each node moves at most 64 times in its life:
+// O(log C) amortized per poll for priorities spanning C, no comparisons
+// between unrelated keys. peek only scans for that minimum (cached until the
+// next change) and moves nothing, so peeking never raises the floor.
+//
+// Priorities are signed longs: flipping the sign bit maps signed order onto
+// unsigned order without changing which bits differ, so negative priorities
+// work as long as they are monotone too.
+public final class RadixHeap<K> implements KeyedHeap<K> {
+    private static final int BUCKETS = 65;
+
+    private final HashMap<K, Node<K>> nodes = new HashMap<>();
+    private final Node<K>[] buckets = newBuckets();   // Heads of doubly linked lists
+    private long last = Long.MIN_VALUE;               // Last polled priority; the floor
+    private Node<K> peeked;                           // Cached min() while nothing changes
+
+    // O(1); priority must not be below the last polled priority
+    @Override
+    public void offer(K key, long priority) {
+        Objects.requireNonNull(key);
+        checkMonotone(priority);
+        Node<K> node = new Node<>(key, priority);
+        if (nodes.putIfAbsent(key, node) != null) {
+            throw new IllegalArgumentException("Already queued: " + key);
+        }
+        insert(node);
+    }
+
+    // O(1) either way; the new priority must not be below the last polled one
+    @Override
+    public boolean update(K key, long priority) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return false;
+        }
+        checkMonotone(priority);
+        unlink(node);
+        node.priority = priority;
+        insert(node);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public long priority(Object key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            throw new NoSuchElementException("Not queued: " + key);
+        }
+        return node.priority;
+    }
+
+    // O(1) if bucket 0 is non-empty, else a scan of the first non-empty
+    // bucket; the floor stays at the last polled priority
+    @Override
+    public K peek() {
+        Node<K> min = min();
+        return min == null ? null : min.key;
+    }
+
+    @Override
+    public long peekPriority() {
+        Node<K> min = min();
+        if (min == null) {
+            throw new NoSuchElementException();
+        }
+        return min.priority;
+    }
+
+    // O(log C) amortized; removes the node peek() reported
+    @Override
+    public K poll() {
+        Node<K> min = min();
+        if (min == null) {
+            return null;
+        }
+        if (min.bucket != 0) {
+            redistribute(min.bucket, min.priority);
+        }
+        unlink(min);
+        nodes.remove(min.key);
+        return min.key;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        Arrays.fill(buckets, null);
+        last = Long.MIN_VALUE;
+        peeked = null;
+    }
+
+    // The floor for offer/update: the last polled priority
+    public long last() {
+        return last;
+    }
+
+    // Smallest node, or null when empty. Every priority in a lower bucket is
+    // below every priority in a higher one, so it is in the first non-empty
+    // bucket: the head of bucket 0, or the minimum of a scan
+    private Node<K> min() {
+        if (buckets[0] != null) {
+            return buckets[0];
+        }
+        if (peeked != null) {
+            return peeked;
+        }
+        int b = 1;
+        while (b < BUCKETS && buckets[b] == null) {
+            b++;
+        }
+        if (b == BUCKETS) {
+            return null;
+        }
+        Node<K> min = buckets[b];
+        for (Node<K> n = min.next; n != null; n = n.next) {
+            if (n.priority < min.priority) min = n;
+        }
+        return peeked = min;
+    }
+
+    // Polling from bucket b: min becomes the floor and every node of the
+    // bucket moves to a strictly lower one (min itself to bucket 0)
+    private void redistribute(int b, long min) {
+        Node<K> list = buckets[b];
+        buckets[b] = null;
+        last = min;
+        for (Node<K> n = list; n != null; ) {
+            Node<K> following = n.next;
+            insert(n);
+            n = following;
+        }
+    }
+
+    private void insert(Node<K> node) {
+        peeked = null;
+        int b = bucket(node.priority);
+        node.bucket = b;
+        node.prev = null;
+        node.next = buckets[b];
+        if (buckets[b] != null) {
+            buckets[b].prev = node;
+        }
+        buckets[b] = node;
+    }
+
+    private void unlink(Node<K> node) {
+        peeked = null;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            buckets[node.bucket] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    // Flipping both sign bits would cancel out in the XOR, so p ^ last is
+    // already the difference of the unsigned-mapped priorities
+    private int bucket(long priority) {
+        return 64 - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    private void checkMonotone(long priority) {
+        if (priority < last) {
+            throw new IllegalArgumentException("Priority " + priority + " below the floor " + last);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K> Node<K>[] newBuckets() {
+        return (Node<K>[]) new Node[BUCKETS];
+    }
+
+    private static final class Node<K> {
+        final K key;
+        long priority;
+        int bucket;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, long priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package collectionsDSA.queue;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+// Push-based sliding window over an unbounded stream of long values -
+// ArrayDequeDSA.slidingWindowMaximum for feeds that never end, so neither the
+// input nor the result can be materialized.
+//
+//   SlidingWindowAggregator w = SlidingWindowAggregator.countWindow(1000)
+//       .onWindow(win -> System.out.println(win.max() + " " + win.average()));
+//   w.accept(42);                    // one value
+//   w.acceptAll(IntStream.of(...));  // a batch
+//   publisher.subscribe(w);          // a Flow.Publisher<Integer/Long/...>
+//
+// Windows:
+// - countWindow(k): the last k values; emits once the window is full (so
+//   emitted maxima equal slidingWindowMaximum's output)
+// - timeWindow(span): values with timestamp in (now - span, now]; emits after
+//   every value. advanceTo(now) expires values while the feed is idle
+//
+// Aggregates: max/min from two monotonic deques (same invariant as
+// IntDeque.pushMaxCandidate), sum as a running total, average = sum / count.
+// Every operation is O(1) amortized and allocates nothing once the internal
+// rings have grown to the window's size. Not thread-safe; Flow delivers
+// onNext serially, which is all this needs.
+public final class SlidingWindowAggregator implements Flow.Subscriber<Number> {
+    private final int maxCount;       // Count window size, or 0 for time windows
+    private final long spanNanos;     // Time window span, or 0 for count windows
+    private final LongSupplier clock;
+
+    private final LongRing window = new LongRing();    // (timestamp, value), oldest first
+    private final LongRing maxDeque = new LongRing();  // (sequence, value), values decreasing
+    private final LongRing minDeque = new LongRing();  // (sequence, value), values increasing
+    private long firstSequence;   // Sequence number of window's head
+    private long nextSequence;
+    private long sum;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    private Consumer<? super SlidingWindowAggregator> listener;
+    private Flow.Subscription subscription;
+    private volatile boolean complete;
+    private volatile Throwable error;
+
+    private SlidingWindowAggregator(int maxCount, long spanNanos, LongSupplier clock) {
+        this.maxCount = maxCount;
+        this.spanNanos = spanNanos;
+        this.clock = clock;
+    }
+
+    // The last 'size' values
+    public static SlidingWindowAggregator countWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("window size must be positive: " + size);
+        }
+        return new SlidingWindowAggregator(size, 0, null);
+    }
+
+    // Values seen within 'span', stamped with System.nanoTime()
+    public static SlidingWindowAggregator timeWindow(Duration span) {
+        return timeWindow(span, System::nanoTime);
+    }
+
+    // Values seen within 'span', stamped by clock (nanoseconds, non-decreasing)
+    public static SlidingWindowAggregator timeWindow(Duration span, LongSupplier clock) {
+        if (span.isNegative() || span.isZero()) {
+            throw new IllegalArgumentException("span must be positive: " + span);
+        }
+        return new SlidingWindowAggregator(0, span.toNanos(), Objects.requireNonNull(clock));
+    }
+
+    // Called with this aggregator after each emitted window; read max()/min()/
+    // sum()/average()/count() inside it. Nothing is allocated per emission
+    public SlidingWindowAggregator onWindow(Consumer<? super SlidingWindowAggregator> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    // ---------------------------------------------------------------- input
+
+    // Add one value - O(1) amortized
+    public void accept(long value) {
+        accept(value, clock == null ? 0L : clock.getAsLong());
+    }
+
+    // Add one value with an explicit timestamp (time windows; ignored by count windows)
+    public void accept(long value, long timestampNanos) {
+        if (maxCount == 0) {
+            if (timestampNanos < lastTimestamp) {
+                throw new IllegalArgumentException("timestamps must not go backwards: "
+                        + timestampNanos + " < " + lastTimestamp);
+            }
+            lastTimestamp = timestampNanos;
+            expireUpTo(timestampNanos - spanNanos);
+        } else if (window.size == maxCount) {
+            removeOldest();
+        }
+        long sequence = nextSequence++;
+        window.addLast(timestampNanos, value);
+        sum += value;
+        while (maxDeque.size > 0 && maxDeque.lastB() < value) maxDeque.removeLast();
+        maxDeque.addLast(sequence, value);
+        while (minDeque.size > 0 && minDeque.lastB() > value) minDeque.removeLast();
+        minDeque.addLast(sequence, value);
+        emit();
+    }
+
+    // Batch input
+    public void acceptAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            accept(values[i]);
+        }
+    }
+
+    public void acceptAll(IntStream values) {
+        values.forEach(this::accept);
+    }
+
+    // Time windows: drop everything older than now - span without adding a
+    // value, e.g. from a timer while the feed is quiet. Emits if anything expired
+    public void advanceTo(long nowNanos) {
+        if (maxCount != 0) {
+            return;
+        }
+        lastTimestamp = Math.max(lastTimestamp, nowNanos);
+        if (expireUpTo(nowNanos - spanNanos)) {
+            emit();
+        }
+    }
+
+    // ---------------------------------------------------------------- Flow.Subscriber
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();  // One publisher at a time
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);  // O(1) per item - never a reason to push back
+    }
+
+    @Override
+    public void onNext(Number item) {
+        accept(item.longValue());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        complete = true;
+    }
+
+    @Override
+    public void onComplete() {
+        complete = true;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    // Failure reported by the publisher, or null
+    public Throwable error() {
+        return error;
+    }
+
+    // Stop receiving from the publisher
+    public void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    // ---------------------------------------------------------------- aggregates
+
+    public int count() {
+        return window.size;
+    }
+
+    public boolean isEmpty() {
+        return window.size == 0;
+    }
+
+    // O(1) - throws NoSuchElementException on an empty window
+    public long max() {
+        if (maxDeque.size == 0) throw new NoSuchElementException("empty window");
+        return maxDeque.firstB();
+    }
+
+    public long min() {
+        if (minDeque.size == 0) throw new NoSuchElementException("empty window");
+        return minDeque.firstB();
+    }
+
+    // Wraps on long overflow, like Long addition
+    public long sum() {
+        return sum;
+    }
+
+    // NaN on an empty window
+    public double average() {
+        return window.size == 0 ? Double.NaN : (double) sum / window.size;
+    }
+
+    // Values in the window, oldest first - O(n), for debugging
+    public long[] values() {
+        long[] values = new long[window.size];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = window.getB(i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "Window{empty}";
+        return String.format("Window{count=%d, min=%d, max=%d, sum=%d, avg=%.2f}",
+                count(), min(), max(), sum(), average());
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void emit() {
+        if (listener != null && (maxCount == 0 || window.size == maxCount)) {
+            listener.accept(this);
+        }
+    }
+
+    // Time windows: remove values stamped at or before cutoff
+    private boolean expireUpTo(long cutoff) {
+        boolean removed = false;
+        while (window.size > 0 && window.firstA() <= cutoff) {
+            removeOldest();
+            removed = true;
+        }
+        return removed;
+    }
+
+    private void removeOldest() {
+        sum -= window.firstB();
+        window.removeFirst();
+        long expired = firstSequence++;
+        if (maxDeque.size > 0 && maxDeque.firstA() == expired) maxDeque.removeFirst();
+        if (minDeque.size > 0 && minDeque.firstA() == expired) minDeque.removeFirst();
+    }
+
+    // Growable circular buffer of (a, b) long pairs - two parallel arrays so
+    // nothing is boxed or wrapped in an entry object
+    static final class LongRing {
+        long[] a = new long[16];
+        long[] b = new long[16];
+        int head;
+        int size;
+
+        void addLast(long first, long second) {
+            if (size == a.length) grow();
+            int i = (head + size) & (a.length - 1);
+            a[i] = first;
+            b[i] = second;
+            size++;
+        }
+
+        void removeFirst() {
+            head = (head + 1) & (a.length - 1);
+            size--;
+        }
+
+        void removeLast() {
+            size--;
+        }
+
+        long firstA() {
+            return a[head];
+        }
+
+        long firstB() {
+            return b[head];
+        }
+
+        long lastB() {
+            return b[(head + size - 1) & (a.length - 1)];
+        }
+
+        long getB(int index) {
+            return b[(head + index) & (a.length - 1)];
+        }
+
+        private void grow() {
+            int n = a.length;
+            long[] newA = new long[n << 1];
+            long[] newB = new long[n << 1];
+            int firstPart = n - head;
+            System.arraycopy(a, head, newA, 0, firstPart);
+            System.arraycopy(a, 0, newA, firstPart, head);
+            System.arraycopy(b, head, newB, 0, firstPart);
+            System.arraycopy(b, 0, newB, firstPart, head);
+            a = newA;
+            b = newB;
+            head = 0;
+        }
+    }
+}
+
+/*
+ ============================================================================
+            SLIDINGWINDOWAGGREGATOR VS ARRAYDEQUEDSA.SLIDINGWINDOWMAXIMUM
+ ============================================================================
+
+ | Aspect            | slidingWindowMaximum(int[], k) | SlidingWindowAggregator
+ |-------------------|--------------------------------|------------------------
+ | Input             | complete int[]                 | one value / batch / Flow.Publisher
+ | Output            | int[] of n - k + 1 maxima      | callback per window, nothing stored
+ | Aggregates        | max                            | max, min, sum, average, count
+ | Window            | last k elements                | last k values or last 'span' of time
+ | Time per value    | O(1) amortized                 | O(1) amortized
+ | Memory            | O(n) result + O(k) deque       | O(window) - rings grow once, then reused
+
+ Why O(1) amortized: each value enters each monotonic deque once and leaves
+ it at most once (popped by a larger/smaller value, or expired at the head).
+
+ ============================================================================
+*/
@@ -0,0 +1,152 @@
+package collectionsDSA.queue;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// "Top 100 keys by weight in the last hour": a ring of HeavyHitters
+// summaries, one per time slice (pane). Updates go to the current pane;
+// panes older than the window are cleared and reused. top(k) snapshots every
+// live pane and merges them, so queries run alongside ingestion.
+//
+// The window slides a pane at a time: with 'panes' slices over 'window' it
+// covers between window - window/panes and window of history. More panes =
+// smoother edge, more memory (panes * capacity counters) and a slower merge.
+//
+// Merging bounded summaries keeps their guarantees: a key's lower bounds add
+// up, and a pane that does not track the key adds its absentBound to the
+// upper bound (SPACE_SAVING: its smallest counter, MISRA_GRIES: its offset).
+public final class WindowedHeavyHitters<K> {
+    private final HeavyHitters<K>[] panes;
+    private final long[] paneStart;          // Slice start per pane; guarded by rotateLock
+    private final long paneNanos;
+    private final LongSupplier clock;
+    private final ReentrantLock rotateLock = new ReentrantLock();
+    private volatile long currentStart;      // Start of the newest slice
+    private volatile int current;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public WindowedHeavyHitters(HeavyHitters.Mode mode, int capacity, Duration window, int panes,
+                                LongSupplier clock) {
+        if (panes < 1) {
+            throw new IllegalArgumentException("panes must be positive: " + panes);
+        }
+        long windowNanos = window.toNanos();
+        if (windowNanos < panes) {
+            throw new IllegalArgumentException("window too short for " + panes + " panes: " + window);
+        }
+        this.paneNanos = windowNanos / panes;
+        this.clock = Objects.requireNonNull(clock);
+        this.panes = new HeavyHitters[panes];
+        this.paneStart = new long[panes];
+        for (int i = 0; i < panes; i++) {
+            this.panes[i] = HeavyHitters.create(mode, capacity);
+        }
+        long now = clock.getAsLong();
+        this.currentStart = now - Math.floorMod(now, paneNanos);
+        Arrays.fill(paneStart, Long.MIN_VALUE);
+        paneStart[0] = currentStart;
+    }
+
+    // System.nanoTime() clock
+    public WindowedHeavyHitters(HeavyHitters.Mode mode, int capacity, Duration window, int panes) {
+        this(mode, capacity, window, panes, System::nanoTime);
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    // O(log capacity); rotates to a fresh pane when the clock crosses a slice
+    public void add(K key, long weight) {
+        rotate(clock.getAsLong());
+        panes[current].add(key, weight);
+    }
+
+    // k heaviest keys over the window, heaviest first
+    public List<HeavyHitters.Entry<K>> top(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        List<HeavyHitters.Snapshot<K>> live = new ArrayList<>(panes.length);
+        for (HeavyHitters<K> pane : livePanes()) {
+            live.add(pane.snapshot());
+        }
+
+        // key -> {count, lower, upper minus the absent bounds of its panes}
+        HashMap<K, long[]> merged = new HashMap<>();
+        long absentSum = 0;
+        for (HeavyHitters.Snapshot<K> snapshot : live) {
+            absentSum += snapshot.absentBound();
+            for (int i = 0, n = snapshot.size(); i < n; i++) {
+                long[] sums = merged.computeIfAbsent(snapshot.key(i), key -> new long[3]);
+                sums[0] += snapshot.count(i);
+                sums[1] += snapshot.lowerBound(i);
+                sums[2] += snapshot.upperBound(i) - snapshot.absentBound();
+            }
+        }
+        List<HeavyHitters.Entry<K>> entries = new ArrayList<>(merged.size());
+        for (Map.Entry<K, long[]> e : merged.entrySet()) {
+            long[] s = e.getValue();
+            // Upper bound: own upper in panes tracking it, absentBound elsewhere
+            entries.add(new HeavyHitters.Entry<>(e.getKey(), s[0], s[1], s[2] + absentSum));
+        }
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return new ArrayList<>(entries.subList(0, Math.min(k, entries.size())));
+    }
+
+    // Sum of weights in the live panes
+    public long totalWeight() {
+        long total = 0;
+        for (HeavyHitters<K> pane : livePanes()) {
+            total += pane.totalWeight();
+        }
+        return total;
+    }
+
+    // Panes inside the window as of now
+    private List<HeavyHitters<K>> livePanes() {
+        rotate(clock.getAsLong());
+        List<HeavyHitters<K>> live = new ArrayList<>(panes.length);
+        rotateLock.lock();
+        try {
+            long oldest = currentStart - (long) (panes.length - 1) * paneNanos;
+            for (int i = 0; i < panes.length; i++) {
+                if (paneStart[i] >= oldest) {
+                    live.add(panes[i]);
+                }
+            }
+        } finally {
+            rotateLock.unlock();
+        }
+        return live;
+    }
+
+    // Move to the slice containing 'now', clearing panes that fell out
+    private void rotate(long now) {
+        if (now - currentStart < paneNanos) {
+            return;
+        }
+        rotateLock.lock();
+        try {
+            long start = currentStart;
+            int index = current;
+            long slices = (now - start) / paneNanos;
+            if (slices <= 0) {
+                return;   // Another thread rotated first
+            }
+            for (long s = 0; s < Math.min(slices, panes.length); s++) {
+                index = (index + 1) % panes.length;
+                panes[index].clear();
+                paneStart[index] = Long.MIN_VALUE;
+            }
+            start += slices * paneNanos;
+            paneStart[index] = start;
+            currentStart = start;
+            current = index;
+        } finally {
+            rotateLock.unlock();
+        }
+    }
+}
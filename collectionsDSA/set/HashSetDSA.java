@@ -163,6 +163,8 @@ public class HashSetDSA {
         System.out.println("Contains key2: " + collisionSet.contains(key2));
         
         // 12. PERFORMANCE DEMONSTRATION
+        // Single-shot timing, no warmup - shows the shape only. Real numbers:
+        // benchmarks/src/main/java/collectionsDSA/benchmarks/set/HashSetBenchmark.java
         
         System.out.println("\n=== Performance Characteristics ===");
         HashSet<Integer> perfSet = new HashSet<>();
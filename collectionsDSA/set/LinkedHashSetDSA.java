@@ -1,6 +1,10 @@
 package collectionsDSA.set;
 
+import collectionsDSA.map.CacheStats;
+import collectionsDSA.map.InstrumentedLinkedHashMap;
+
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class LinkedHashSetDSA {
     public static void main(String[] args) {
@@ -156,6 +160,15 @@ public class LinkedHashSetDSA {
         lruCache.put(5, "Five");
         System.out.println("After adding 5 (3 evicted): " + lruCache.keySet());
         
+        // Same cache with hit/miss/eviction counters
+        LRUCache<Integer, String> countedCache = new LRUCache<>(2, CacheStats.counters(), null);
+        countedCache.put(1, "One");
+        countedCache.put(2, "Two");
+        countedCache.get(1);
+        countedCache.put(3, "Three");  // Evicts 2
+        countedCache.get(2);
+        System.out.println("Cache stats: " + countedCache.stats().snapshot());
+        
         // 11. PRACTICAL USE CASE: FREQUENCY COUNTING WITH ORDER
         
         System.out.println("\n=== Frequency Counting with Order Preservation ===");
@@ -167,6 +180,8 @@ public class LinkedHashSetDSA {
         System.out.println("Unique words (order preserved): " + uniqueWords);
         
         // 12. PERFORMANCE COMPARISON
+        // Single-shot timing, no warmup - shows the shape only. Real numbers:
+        // benchmarks/src/main/java/collectionsDSA/benchmarks/set/LinkedHashSetBenchmark.java
         
         System.out.println("\n=== Performance Characteristics ===");
         
@@ -212,19 +227,16 @@ public class LinkedHashSetDSA {
     }
     
     // Simple LRU Cache implementation using LinkedHashSet for order tracking
-    static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-        private final int capacity;
-        
+    // (stats, listener and eviction past capacity: InstrumentedLinkedHashMap)
+    static class LRUCache<K, V> extends InstrumentedLinkedHashMap<K, V> {
         public LRUCache(int capacity) {
-            // Access order enabled (third parameter = true)
-            super(capacity, 0.75f, true);
-            this.capacity = capacity;
+            this(capacity, CacheStats.disabled(), null);
         }
         
-        // Override removeEldestEntry to implement LRU eviction
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-            return size() > capacity;
+        // stats: CacheStats.counters() / withLatency(); listener may be null
+        public LRUCache(int capacity, CacheStats stats, BiConsumer<? super K, ? super V> evictionListener) {
+            // Access order enabled (second parameter = true)
+            super(capacity, true, capacity, stats, evictionListener);
         }
     }
 }
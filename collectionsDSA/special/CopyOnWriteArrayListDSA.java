@@ -126,6 +126,8 @@ public class CopyOnWriteArrayListDSA {
         System.out.println("Added " + addedCount + " new elements: " + numbers);
         
         // 6. PERFORMANCE DEMONSTRATION
+        // Single-shot timing, no warmup - shows the shape only. Real numbers:
+        // benchmarks/src/main/java/collectionsDSA/benchmarks/special/CopyOnWriteArrayListBenchmark.java
         
         System.out.println("\n=== Performance Characteristics ===");
         CopyOnWriteArrayList<Integer> perfList = new CopyOnWriteArrayList<>();